@@ -0,0 +1,83 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.benchmarks;
+
+import io.bootique.BQCoreModule;
+import io.bootique.BQRuntime;
+import io.bootique.Bootique;
+import io.bootique.jersey.JerseyModule;
+import io.bootique.jersey.benchmarks.hk2.Hk2ManagedApi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+
+/**
+ * Starts an in-process Jetty/Jersey app with a set of API resources covering the typical server request path. The
+ * app goes through the same DI bootstrap as a production app, i.e. the Jersey servlet is created by
+ * {@link io.bootique.jersey.JerseyServletFactory} from the ResourceConfig assembled by {@link JerseyModule}.
+ */
+class BenchmarkApp {
+
+    private final BQRuntime runtime;
+    private final String baseUrl;
+
+    BenchmarkApp() {
+        int port = freePort();
+
+        this.baseUrl = "http://127.0.0.1:" + port;
+        this.runtime = Bootique.app("--server")
+                .autoLoadModules()
+                .module(b -> BQCoreModule.extend(b)
+                        .setProperty("bq.jetty.connectors[0].port", String.valueOf(port))
+                        .setProperty("bq.jetty.connectors[0].host", "127.0.0.1"))
+                .module(b -> JerseyModule.extend(b)
+                        .addApiResource(Resources.SingletonApi.class)
+                        .addApiResource(Resources.PerRequestApi.class)
+                        .addApiResource(Resources.InjectedPerRequestApi.class)
+                        .addApiResource(Resources.ParamsApi.class)
+                        .addApiResource(Resources.JsonApi.class)
+                        .addPackage(Hk2ManagedApi.class))
+                .createRuntime();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't find a free port", e);
+        }
+    }
+
+    BenchmarkApp start() {
+        // "--server" command starts Jetty and forks it to the background, so this method returns immediately
+        runtime.run();
+        return this;
+    }
+
+    void stop() {
+        runtime.shutdown();
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + "/" + path);
+    }
+}
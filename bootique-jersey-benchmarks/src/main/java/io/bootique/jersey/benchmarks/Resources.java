@@ -0,0 +1,140 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.benchmarks;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.UriInfo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * API resources exercised by the benchmarks. Each one isolates a single aspect of the request path.
+ */
+public class Resources {
+
+    @Singleton
+    @Path("singleton")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class SingletonApi {
+
+        @GET
+        public String get() {
+            return "ok";
+        }
+    }
+
+    @Path("per-request")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class PerRequestApi {
+
+        @GET
+        public String get() {
+            return "ok";
+        }
+    }
+
+    @Path("injected")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class InjectedPerRequestApi {
+
+        @Inject
+        private GreetingService service;
+
+        @Context
+        private UriInfo uriInfo;
+
+        @GET
+        public String get() {
+            return service.greet(uriInfo.getPath());
+        }
+    }
+
+    @Singleton
+    @Path("params")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class ParamsApi {
+
+        @GET
+        public String get(@QueryParam("date") LocalDate date, @QueryParam("n") int n, @QueryParam("s") List<String> s) {
+            return date.plusDays(n) + ":" + s.size();
+        }
+    }
+
+    @Singleton
+    @Path("json")
+    public static class JsonApi {
+
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.APPLICATION_JSON)
+        public Payload post(Payload payload) {
+            payload.setCount(payload.getItems().size());
+            return payload;
+        }
+    }
+
+    public static class GreetingService {
+
+        public String greet(String name) {
+            return "hi " + name;
+        }
+    }
+
+    public static class Payload {
+
+        private String name;
+        private int count;
+        private List<String> items;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+    }
+}
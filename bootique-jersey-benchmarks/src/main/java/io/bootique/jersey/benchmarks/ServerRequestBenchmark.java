@@ -0,0 +1,139 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput and latency distribution (see "p0.99", etc. in the "sample" mode output) of the server request
+ * path end to end - from the socket, through Jetty and the Jersey servlet, to the resource method and back. Run with:
+ *
+ * <pre>
+ * mvn clean package -pl bootique-jersey-benchmarks -am
+ * java -jar bootique-jersey-benchmarks/target/benchmarks.jar
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(4)
+@Fork(1)
+public class ServerRequestBenchmark {
+
+    private static final String JSON_BODY = "{\"name\":\"n1\",\"count\":0,\"items\":[\"a\",\"b\",\"c\",\"d\"]}";
+
+    private BenchmarkApp app;
+    private HttpClient client;
+
+    private HttpRequest singleton;
+    private HttpRequest perRequest;
+    private HttpRequest injected;
+    private HttpRequest hk2Injected;
+    private HttpRequest params;
+    private HttpRequest json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        app = new BenchmarkApp().start();
+
+        // a lightweight client, so that most of the measured time is spent on the server
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        singleton = get(app.uri("singleton"));
+        perRequest = get(app.uri("per-request"));
+        injected = get(app.uri("injected"));
+        hk2Injected = get(app.uri("hk2-injected"));
+        params = get(app.uri("params?date=2024-02-28&n=3&s=a&s=b"));
+        json = HttpRequest.newBuilder(app.uri("json"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON_BODY))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.stop();
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected response status " + response.statusCode() + " for " + request.uri());
+        }
+
+        return response.body();
+    }
+
+    @Benchmark
+    public String singletonResource() throws IOException, InterruptedException {
+        return send(singleton);
+    }
+
+    @Benchmark
+    public String perRequestResource() throws IOException, InterruptedException {
+        return send(perRequest);
+    }
+
+    @Benchmark
+    public String injectedPerRequestResource() throws IOException, InterruptedException {
+        return send(injected);
+    }
+
+    @Benchmark
+    public String bqInjectHk2ManagedResource() throws IOException, InterruptedException {
+        return send(hk2Injected);
+    }
+
+    @Benchmark
+    public String paramConversion() throws IOException, InterruptedException {
+        return send(params);
+    }
+
+    @Benchmark
+    public String jsonBody() throws IOException, InterruptedException {
+        return send(json);
+    }
+}
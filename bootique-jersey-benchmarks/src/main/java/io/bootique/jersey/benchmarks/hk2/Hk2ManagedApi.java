@@ -0,0 +1,47 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.benchmarks.hk2;
+
+import io.bootique.di.BQInject;
+import io.bootique.jersey.benchmarks.Resources;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * A resource registered via package scanning. Unlike the resources registered via "addApiResource", it is
+ * instantiated by HK2 on every request, so its {@link BQInject} fields go through the Bootique-to-HK2 injection bridge.
+ */
+@Path("hk2-injected")
+@Produces(MediaType.TEXT_PLAIN)
+public class Hk2ManagedApi {
+
+    @BQInject
+    private Resources.GreetingService service1;
+
+    @BQInject
+    private Resources.GreetingService service2;
+
+    @GET
+    public String get() {
+        return service1.greet("a") + service2.greet("b");
+    }
+}
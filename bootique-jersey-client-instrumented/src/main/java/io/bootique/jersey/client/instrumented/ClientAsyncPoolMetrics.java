@@ -0,0 +1,94 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToIntFunction;
+
+/**
+ * Publishes metrics of the client async thread pools. Each Jersey client has its own pool, so the gauges report totals
+ * across all live pools created by a given client factory.
+ *
+ * @since 4.0
+ */
+public class ClientAsyncPoolMetrics {
+
+    public static final String QUEUE_DEPTH_GAUGE = JerseyClientInstrumentedModule.METRIC_NAMING.name("Client", "AsyncQueueDepth");
+    public static final String ACTIVE_THREADS_GAUGE = JerseyClientInstrumentedModule.METRIC_NAMING.name("Client", "AsyncActiveThreads");
+    public static final String REJECTIONS_METER = JerseyClientInstrumentedModule.METRIC_NAMING.name("Client", "AsyncRejections");
+
+    // pools are disposed together with their clients, so keeping weak references to avoid leaking closed clients
+    private final Set<ThreadPoolExecutor> executors;
+    private final Meter rejections;
+
+    public ClientAsyncPoolMetrics(MetricRegistry metricRegistry) {
+        this.executors = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        this.rejections = metricRegistry.meter(REJECTIONS_METER);
+
+        metricRegistry.gauge(QUEUE_DEPTH_GAUGE, () -> (Gauge<Integer>) () -> sum(e -> e.getQueue().size()));
+        metricRegistry.gauge(ACTIVE_THREADS_GAUGE, () -> (Gauge<Integer>) () -> sum(ThreadPoolExecutor::getActiveCount));
+    }
+
+    public void monitor(ThreadPoolExecutor executor) {
+        executors.add(executor);
+    }
+
+    public RejectedExecutionHandler countRejections(RejectedExecutionHandler delegate) {
+        return (r, executor) -> {
+
+            // the delegate may still run or queue the task (e.g. "callerRuns" or "block" policies), so only counting
+            // the tasks that were actually rejected
+            try {
+                delegate.rejectedExecution(r, executor);
+            } catch (RejectedExecutionException e) {
+                rejections.mark();
+                throw e;
+            }
+        };
+    }
+
+    private int sum(ToIntFunction<ThreadPoolExecutor> metric) {
+
+        List<ThreadPoolExecutor> snapshot;
+        synchronized (executors) {
+            snapshot = new ArrayList<>(executors);
+        }
+
+        int sum = 0;
+        for (ThreadPoolExecutor e : snapshot) {
+            if (!e.isShutdown()) {
+                sum += metric.applyAsInt(e);
+            }
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains client metrics broken down by named target (see {@link io.bootique.jersey.client.HttpTargets}) and
+ * endpoint. An endpoint is a combination of HTTP method, response status class and request path with ids replaced by
+ * an "{id}" placeholder. In the metric names, the characters that have special meaning for hierarchical reporters like
+ * Graphite ('.', '{', '}', percent-encoded sequences, etc.) are replaced with '_', e.g. "GET.2xx./users/_id_". To
+ * keep the number of metrics bounded, once a target reaches the endpoint limit, the timings of its endpoints not seen
+ * before are recorded in a per-target "overflow" timer.
+ *
+ * @since 4.0
+ */
+public class ClientTargetMetrics {
+
+    /**
+     * A target name used for requests sent via clients not associated with any named target.
+     */
+    public static final String UNNAMED_TARGET = "_unnamed";
+
+    public static final String OVERFLOW_ENDPOINT = "_overflow";
+
+    /**
+     * Default max number of endpoints tracked per target.
+     */
+    public static final int DEFAULT_MAX_ENDPOINTS = 100;
+
+    private static final Pattern NUMERIC = Pattern.compile("\\d+");
+    private static final Pattern UUID = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern HEX_ID = Pattern.compile("[0-9a-fA-F]{16,}");
+
+    private final MetricRegistry metricRegistry;
+    private final int maxEndpoints;
+    private final ConcurrentMap<String, Timer> targetTimers;
+    private final ConcurrentMap<String, Timer> endpointTimers;
+    private final ConcurrentMap<String, Meter> meters;
+    private final ConcurrentMap<String, Counter> inFlightCounters;
+    private final ConcurrentMap<String, AtomicInteger> endpointCounts;
+
+    public ClientTargetMetrics(MetricRegistry metricRegistry) {
+        this(metricRegistry, DEFAULT_MAX_ENDPOINTS);
+    }
+
+    /**
+     * @param maxEndpoints max number of endpoints tracked per target
+     */
+    public ClientTargetMetrics(MetricRegistry metricRegistry, int maxEndpoints) {
+        this.metricRegistry = metricRegistry;
+        this.maxEndpoints = maxEndpoints;
+        this.targetTimers = new ConcurrentHashMap<>();
+        this.endpointTimers = new ConcurrentHashMap<>();
+        this.meters = new ConcurrentHashMap<>();
+        this.inFlightCounters = new ConcurrentHashMap<>();
+        this.endpointCounts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a name of a per-target flavor of a client metric.
+     */
+    public static String targetMetricName(String metricName, String target) {
+        return metricName + "." + target;
+    }
+
+    /**
+     * Returns a template of the URL path, with numeric, UUID and long hex segments replaced with "{id}".
+     */
+    static String templatePath(String path) {
+
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+
+        StringBuilder out = new StringBuilder(path.length());
+        int len = path.length();
+        int start = 0;
+        while (start <= len) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = len;
+            }
+
+            String segment = path.substring(start, end);
+            out.append(isId(segment) ? "{id}" : segment);
+
+            if (end < len) {
+                out.append('/');
+            }
+
+            start = end + 1;
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Converts a path template to a form that can be safely used as a part of a metric name.
+     */
+    static String metricPath(String templatePath) {
+
+        int len = templatePath.length();
+        StringBuilder out = new StringBuilder(len);
+
+        for (int i = 0; i < len; i++) {
+            char c = templatePath.charAt(i);
+
+            if (c == '%' && i + 2 < len) {
+                // collapsing "%xx" into a single char
+                out.append('_');
+                i += 2;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '/' || c == '-' || c == '_') {
+                out.append(c);
+            } else {
+                out.append('_');
+            }
+        }
+
+        return out.toString();
+    }
+
+    static String statusClass(int status) {
+        return (status / 100) + "xx";
+    }
+
+    private static boolean isId(String segment) {
+        return !segment.isEmpty()
+                && (NUMERIC.matcher(segment).matches()
+                || UUID.matcher(segment).matches()
+                || HEX_ID.matcher(segment).matches());
+    }
+
+    public Timer targetTimer(String target) {
+        return targetTimers.computeIfAbsent(
+                targetMetricName(RequestTimer.TIMER_NAME, target),
+                metricRegistry::timer);
+    }
+
+    public Meter serverErrorsMeter(String target) {
+        return targetMeter(RequestTimer.SERVER_ERRORS_METER, target);
+    }
+
+    /**
+     * Returns a per-target meter of requests that failed without a response because of a given cause.
+     */
+    public Meter failuresMeter(String target, String cause) {
+        return targetMeter(RequestTimer.failuresMeterName(cause), target);
+    }
+
+    /**
+     * Returns a per-target timer of requests that failed without a response.
+     */
+    public Timer failedTimer(String target) {
+        return targetTimers.computeIfAbsent(
+                targetMetricName(RequestTimer.FAILED_TIMER_NAME, target),
+                metricRegistry::timer);
+    }
+
+    /**
+     * Returns a per-target counter of requests sent, but not yet responded to.
+     */
+    public Counter inFlightCounter(String target) {
+        return inFlightCounters.computeIfAbsent(
+                target,
+                t -> metricRegistry.counter(targetMetricName(RequestTimer.IN_FLIGHT_COUNTER, t)));
+    }
+
+    private Meter targetMeter(String metricName, String target) {
+        return meters.computeIfAbsent(targetMetricName(metricName, target), metricRegistry::meter);
+    }
+
+    public Timer endpointTimer(String target, String method, int status, String path) {
+
+        String endpoint = method + "." + statusClass(status) + "." + metricPath(templatePath(path));
+        String key = target + "." + endpoint;
+
+        Timer timer = endpointTimers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+
+        AtomicInteger endpointCount = endpointCounts.computeIfAbsent(target, t -> new AtomicInteger());
+
+        // the check is racy and may let a few extra endpoints in, which is acceptable for a soft limit
+        if (endpointCount.get() >= maxEndpoints) {
+            return endpointTimers.computeIfAbsent(
+                    target + "." + OVERFLOW_ENDPOINT,
+                    k -> metricRegistry.timer(targetMetricName(RequestTimer.TIMER_NAME, k)));
+        }
+
+        return endpointTimers.computeIfAbsent(key, k -> {
+            endpointCount.incrementAndGet();
+            return metricRegistry.timer(targetMetricName(RequestTimer.TIMER_NAME, k));
+        });
+    }
+}
@@ -22,12 +22,16 @@ import com.codahale.metrics.MetricRegistry;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 import io.bootique.di.Injector;
+import io.bootique.jersey.client.AsyncExecutorType;
 import io.bootique.jersey.client.HttpClientFactoryFactory;
 import io.bootique.jersey.client.JerseyClientFeatures;
 import io.bootique.jersey.client.instrumented.mdc.MDCAwareClientAsyncExecutorProvider;
+import io.bootique.jersey.client.instrumented.mdc.MDCAwareVirtualThreadClientAsyncExecutorProvider;
+import io.bootique.shutdown.ShutdownManager;
 import jakarta.ws.rs.core.Feature;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.inject.hk2.AbstractBinder;
 
 import jakarta.inject.Inject;
 import java.util.Set;
@@ -41,14 +45,32 @@ public class InstrumentedHttpClientFactoryFactory extends HttpClientFactoryFacto
     private final MetricRegistry metricRegistry;
 
     private JerseyClientHealthChecksFactory health;
+    private ClientAsyncPoolMetrics asyncPoolMetrics;
 
+    /**
+     * @deprecated in favor of the constructor that takes a {@link ShutdownManager}.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
+    public InstrumentedHttpClientFactoryFactory(
+            Injector injector,
+            Set<Feature> features,
+            ConnectorProvider connectorProvider,
+            MetricRegistry metricRegistry) {
+        super(injector, features, connectorProvider);
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * @since 4.0
+     */
     @Inject
     public InstrumentedHttpClientFactoryFactory(
             Injector injector,
             @JerseyClientFeatures Set<Feature> features,
             ConnectorProvider connectorProvider,
+            ShutdownManager shutdownManager,
             MetricRegistry metricRegistry) {
-        super(injector, features, connectorProvider);
+        super(injector, features, connectorProvider, shutdownManager);
         this.metricRegistry = metricRegistry;
     }
 
@@ -58,7 +80,7 @@ public class InstrumentedHttpClientFactoryFactory extends HttpClientFactoryFacto
     }
 
     public JerseyClientHealthChecks createHealthChecks() {
-        return getHealth().createHealthChecks();
+        return getHealth().createHealthChecks(getCircuitBreakers());
     }
 
     private JerseyClientHealthChecksFactory getHealth() {
@@ -67,6 +89,27 @@ public class InstrumentedHttpClientFactoryFactory extends HttpClientFactoryFacto
 
     @Override
     protected void configAsyncExecutor(ClientConfig config) {
-        config.register(MDCAwareClientAsyncExecutorProvider.class);
+        if (asyncExecutor == AsyncExecutorType.virtual) {
+            config.register(MDCAwareVirtualThreadClientAsyncExecutorProvider.class);
+        } else {
+            ClientAsyncPoolMetrics metrics = getAsyncPoolMetrics();
+
+            bindAsyncPoolSettings(config);
+            config.register(new AbstractBinder() {
+                @Override
+                protected void configure() {
+                    bind(metrics).to(ClientAsyncPoolMetrics.class);
+                }
+            });
+            config.register(MDCAwareClientAsyncExecutorProvider.class);
+        }
+    }
+
+    private synchronized ClientAsyncPoolMetrics getAsyncPoolMetrics() {
+        if (asyncPoolMetrics == null) {
+            asyncPoolMetrics = new ClientAsyncPoolMetrics(metricRegistry);
+        }
+
+        return asyncPoolMetrics;
     }
 }
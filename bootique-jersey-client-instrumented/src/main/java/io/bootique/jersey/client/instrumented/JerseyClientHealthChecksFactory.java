@@ -3,12 +3,15 @@ package io.bootique.jersey.client.instrumented;
 import com.codahale.metrics.MetricRegistry;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreaker;
+import io.bootique.jersey.client.instrumented.healthcheck.CircuitBreakerHealthCheck;
 import io.bootique.metrics.health.HealthCheck;
 import io.bootique.metrics.health.check.DoubleRangeFactory;
 import io.bootique.metrics.health.check.ValueRange;
 import io.bootique.metrics.health.check.ValueRangeCheck;
 
 import jakarta.inject.Inject;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -20,9 +23,57 @@ public class JerseyClientHealthChecksFactory {
             .METRIC_NAMING
             .name("Requests", "PerMin");
 
+    /**
+     * @since 4.0
+     */
+    public static final String P95_LATENCY_CHECK = JerseyClientInstrumentedModule
+            .METRIC_NAMING
+            .name("Requests", "P95Ms");
+
+    /**
+     * @since 4.0
+     */
+    public static final String P99_LATENCY_CHECK = JerseyClientInstrumentedModule
+            .METRIC_NAMING
+            .name("Requests", "P99Ms");
+
+    /**
+     * @since 4.0
+     */
+    public static final String SERVER_ERROR_RATE_CHECK = JerseyClientInstrumentedModule
+            .METRIC_NAMING
+            .name("Responses", "ServerErrorRate");
+
+    /**
+     * @since 4.0
+     */
+    public static final String TIMEOUT_RATE_CHECK = JerseyClientInstrumentedModule
+            .METRIC_NAMING
+            .name("Requests", "TimeoutRate");
+
+    /**
+     * @since 4.0
+     */
+    public static final String CONNECT_FAILURE_RATE_CHECK = JerseyClientInstrumentedModule
+            .METRIC_NAMING
+            .name("Requests", "ConnectFailureRate");
+
+    /**
+     * @since 4.0
+     */
+    public static final String CIRCUIT_BREAKER_CHECK = JerseyClientInstrumentedModule
+            .METRIC_NAMING
+            .name("CircuitBreaker", "State");
+
     private final MetricRegistry metricRegistry;
 
     private DoubleRangeFactory requestsPerMin;
+    private DoubleRangeFactory p95Ms;
+    private DoubleRangeFactory p99Ms;
+    private DoubleRangeFactory serverErrorRate;
+    private DoubleRangeFactory timeoutRate;
+    private DoubleRangeFactory connectFailureRate;
+    private Map<String, JerseyClientTargetHealthChecksFactory> targets;
 
     @Inject
     public JerseyClientHealthChecksFactory(MetricRegistry metricRegistry) {
@@ -34,16 +85,165 @@ public class JerseyClientHealthChecksFactory {
         this.requestsPerMin = requestsPerMin;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Thresholds of the 95th percentile of request latency in milliseconds. The check is only " +
+            "created if this property is set.")
+    public void setP95Ms(DoubleRangeFactory p95Ms) {
+        this.p95Ms = p95Ms;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Thresholds of the 99th percentile of request latency in milliseconds. The check is only " +
+            "created if this property is set.")
+    public void setP99Ms(DoubleRangeFactory p99Ms) {
+        this.p99Ms = p99Ms;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Thresholds of a fraction (0..1) of requests that received a 5xx response, based on one-minute " +
+            "rates. The check is only created if this property is set.")
+    public void setServerErrorRate(DoubleRangeFactory serverErrorRate) {
+        this.serverErrorRate = serverErrorRate;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Thresholds of a fraction (0..1) of requests that failed with a connect or read timeout, based " +
+            "on one-minute rates. The check is only created if this property is set.")
+    public void setTimeoutRate(DoubleRangeFactory timeoutRate) {
+        this.timeoutRate = timeoutRate;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Thresholds of a fraction (0..1) of requests that failed to connect for reasons other than a " +
+            "timeout, based on one-minute rates. The check is only created if this property is set.")
+    public void setConnectFailureRate(DoubleRangeFactory connectFailureRate) {
+        this.connectFailureRate = connectFailureRate;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Health check thresholds for individual named targets. Keys are the names of the targets " +
+            "from 'jerseyclient.targets'.")
+    public void setTargets(Map<String, JerseyClientTargetHealthChecksFactory> targets) {
+        this.targets = targets;
+    }
+
     public JerseyClientHealthChecks createHealthChecks() {
-        return new JerseyClientHealthChecks(createHealthChecksMap());
+        return createHealthChecks(Collections.emptyMap());
+    }
+
+    /**
+     * Creates health checks, including the state checks of the provided target circuit breakers.
+     *
+     * @since 4.0
+     */
+    public JerseyClientHealthChecks createHealthChecks(Map<String, CircuitBreaker> circuitBreakers) {
+        Map<String, HealthCheck> checks = createHealthChecksMap();
+        circuitBreakers.forEach((n, b) -> checks.put(
+                ClientTargetMetrics.targetMetricName(CIRCUIT_BREAKER_CHECK, n),
+                new CircuitBreakerHealthCheck(b)));
+
+        return new JerseyClientHealthChecks(checks);
     }
 
     protected Map<String, HealthCheck> createHealthChecksMap() {
-        Map<String, HealthCheck> checks = new HashMap<>(3);
+        Map<String, HealthCheck> checks = new HashMap<>();
         checks.put(REQUESTS_PER_MIN_CHECK, createTimeRequestsCheck());
+
+        addLatencyAndErrorChecks(checks, null, p95Ms, p99Ms, serverErrorRate);
+        addFailureChecks(checks, null, timeoutRate, connectFailureRate);
+
+        if (targets != null) {
+            targets.forEach((n, t) -> {
+                addLatencyAndErrorChecks(checks, n, t.p95Ms, t.p99Ms, t.serverErrorRate);
+                addFailureChecks(checks, n, t.timeoutRate, t.connectFailureRate);
+            });
+        }
+
         return checks;
     }
 
+    // "target" is null for the checks of all client requests
+    private void addLatencyAndErrorChecks(
+            Map<String, HealthCheck> checks,
+            String target,
+            DoubleRangeFactory p95Ms,
+            DoubleRangeFactory p99Ms,
+            DoubleRangeFactory serverErrorRate) {
+
+        String timerName = metricName(RequestTimer.TIMER_NAME, target);
+
+        if (p95Ms != null) {
+            Supplier<Double> p95 = () -> toMs(metricRegistry.timer(timerName).getSnapshot().get95thPercentile());
+            checks.put(metricName(P95_LATENCY_CHECK, target), new ValueRangeCheck<>(createRange(p95Ms), p95));
+        }
+
+        if (p99Ms != null) {
+            Supplier<Double> p99 = () -> toMs(metricRegistry.timer(timerName).getSnapshot().get99thPercentile());
+            checks.put(metricName(P99_LATENCY_CHECK, target), new ValueRangeCheck<>(createRange(p99Ms), p99));
+        }
+
+        if (serverErrorRate != null) {
+            Supplier<Double> rate = () -> requestRate(RequestTimer.SERVER_ERRORS_METER, target);
+            checks.put(metricName(SERVER_ERROR_RATE_CHECK, target), new ValueRangeCheck<>(createRange(serverErrorRate), rate));
+        }
+    }
+
+    private void addFailureChecks(
+            Map<String, HealthCheck> checks,
+            String target,
+            DoubleRangeFactory timeoutRate,
+            DoubleRangeFactory connectFailureRate) {
+
+        if (timeoutRate != null) {
+            Supplier<Double> rate = () -> requestRate(RequestTimer.failuresMeterName(RequestTimer.TIMEOUT_FAILURE), target);
+            checks.put(metricName(TIMEOUT_RATE_CHECK, target), new ValueRangeCheck<>(createRange(timeoutRate), rate));
+        }
+
+        if (connectFailureRate != null) {
+            Supplier<Double> rate = () -> requestRate(RequestTimer.failuresMeterName(RequestTimer.CONNECT_FAILURE), target);
+            checks.put(metricName(CONNECT_FAILURE_RATE_CHECK, target), new ValueRangeCheck<>(createRange(connectFailureRate), rate));
+        }
+    }
+
+    // a fraction of all requests (with or without a response) counted by the meter
+    private double requestRate(String meterName, String target) {
+
+        // failed requests are not included in the main request timer, so need to add them to the total
+        double count = metricRegistry.meter(metricName(meterName, target)).getOneMinuteRate();
+        double total = metricRegistry.timer(metricName(RequestTimer.TIMER_NAME, target)).getOneMinuteRate()
+                + metricRegistry.timer(metricName(RequestTimer.FAILED_TIMER_NAME, target)).getOneMinuteRate();
+
+        return total > 0. ? Math.min(1., count / total) : 0.;
+    }
+
+    private static String metricName(String name, String target) {
+        return target != null ? ClientTargetMetrics.targetMetricName(name, target) : name;
+    }
+
+    private static double toMs(double nanos) {
+        return nanos / 1_000_000.;
+    }
+
+    private static ValueRange<Double> createRange(DoubleRangeFactory factory) {
+        if (factory.getMin() == null) {
+            factory.setMin(0);
+        }
+
+        return factory.createRange();
+    }
+
     private HealthCheck createTimeRequestsCheck() {
         ValueRange<Double> range = getRequestsPerMin();
         Supplier<Double> deferredGauge = ()
@@ -61,8 +61,14 @@ public class JerseyClientInstrumentedModule implements BQModule {
 
     @Provides
     @Singleton
-    RequestTimer provideTimingFilter(MetricRegistry metricRegistry) {
-        return new RequestTimer(metricRegistry);
+    RequestTimer provideTimingFilter(MetricRegistry metricRegistry, ClientTargetMetrics targetMetrics) {
+        return new RequestTimer(metricRegistry, targetMetrics);
+    }
+
+    @Provides
+    @Singleton
+    ClientTargetMetrics provideTargetMetrics(MetricRegistry metricRegistry) {
+        return new ClientTargetMetrics(metricRegistry);
     }
 
     // overriding non-instrumented module's service
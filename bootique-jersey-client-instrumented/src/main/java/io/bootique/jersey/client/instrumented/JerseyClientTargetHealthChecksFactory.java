@@ -0,0 +1,66 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.metrics.health.check.DoubleRangeFactory;
+
+/**
+ * Health check thresholds for requests sent via a single named target. Each check is only created if its thresholds
+ * are set.
+ *
+ * @since 4.0
+ */
+@BQConfig
+public class JerseyClientTargetHealthChecksFactory {
+
+    DoubleRangeFactory p95Ms;
+    DoubleRangeFactory p99Ms;
+    DoubleRangeFactory serverErrorRate;
+    DoubleRangeFactory timeoutRate;
+    DoubleRangeFactory connectFailureRate;
+
+    @BQConfigProperty("Thresholds of the 95th percentile of the target request latency in milliseconds.")
+    public void setP95Ms(DoubleRangeFactory p95Ms) {
+        this.p95Ms = p95Ms;
+    }
+
+    @BQConfigProperty("Thresholds of the 99th percentile of the target request latency in milliseconds.")
+    public void setP99Ms(DoubleRangeFactory p99Ms) {
+        this.p99Ms = p99Ms;
+    }
+
+    @BQConfigProperty("Thresholds of a fraction (0..1) of the target requests that received a 5xx response.")
+    public void setServerErrorRate(DoubleRangeFactory serverErrorRate) {
+        this.serverErrorRate = serverErrorRate;
+    }
+
+    @BQConfigProperty("Thresholds of a fraction (0..1) of the target requests that failed with a connect or read timeout.")
+    public void setTimeoutRate(DoubleRangeFactory timeoutRate) {
+        this.timeoutRate = timeoutRate;
+    }
+
+    @BQConfigProperty("Thresholds of a fraction (0..1) of the target requests that failed to connect for reasons " +
+            "other than a timeout.")
+    public void setConnectFailureRate(DoubleRangeFactory connectFailureRate) {
+        this.connectFailureRate = connectFailureRate;
+    }
+}
@@ -19,45 +19,187 @@
 
 package io.bootique.jersey.client.instrumented;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import io.bootique.jersey.client.HttpTargets;
+import io.bootique.jersey.client.RequestFailures;
 import io.bootique.metrics.MetricNaming;
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.ClientResponseContext;
 import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import org.glassfish.jersey.client.spi.PostInvocationInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 // The priority must be higher than that of RequestLogger, so that the Timer could print its output inside the Logger
 @Priority(200)
-public class RequestTimer implements ClientRequestFilter, ClientResponseFilter {
+public class RequestTimer implements ClientRequestFilter, ClientResponseFilter, ReaderInterceptor, PostInvocationInterceptor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RequestTimer.class);
     private static final String TIMER_PROPERTY = RequestTimer.class.getName() + ".timer";
+    private static final String START_PROPERTY = RequestTimer.class.getName() + ".start";
+    private static final String TARGET_PROPERTY = RequestTimer.class.getName() + ".target";
+
+    /**
+     * Time from sending the request till receiving the response headers, i.e. the time to first byte of the response.
+     */
     public static final String TIMER_NAME = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "RequestTimer");
 
+    /**
+     * Time spent reading response entity bytes from the network.
+     *
+     * @since 4.0
+     */
+    public static final String ENTITY_READ_TIMER_NAME = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "EntityReadTimer");
+
+    /**
+     * Time spent converting the response entity to Java objects, excluding the network reads.
+     *
+     * @since 4.0
+     */
+    public static final String DESERIALIZATION_TIMER_NAME = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "DeserializationTimer");
+
+    /**
+     * Time from sending the request till the response entity is fully read.
+     *
+     * @since 4.0
+     */
+    public static final String TOTAL_TIMER_NAME = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "TotalTimer");
+
+    /**
+     * Rate of requests that received a 5xx response.
+     *
+     * @since 4.0
+     */
+    public static final String SERVER_ERRORS_METER = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "ServerErrors");
+
+    /**
+     * Time from sending the request till it failed without a response (e.g. on connection error or a read timeout).
+     *
+     * @since 4.0
+     */
+    public static final String FAILED_TIMER_NAME = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "FailedRequestTimer");
+
+    /**
+     * A failure cause for connect and read timeouts.
+     *
+     * @since 4.0
+     */
+    public static final String TIMEOUT_FAILURE = "Timeout";
+
+    /**
+     * A failure cause for the errors establishing a connection other than timeouts, such as a refused connection
+     * or an unknown host.
+     *
+     * @since 4.0
+     */
+    public static final String CONNECT_FAILURE = "Connect";
+
+    /**
+     * @since 4.0
+     */
+    public static final String OTHER_FAILURE = "Other";
+
+    /**
+     * Number of requests sent, but not yet responded to.
+     *
+     * @since 4.0
+     */
+    public static final String IN_FLIGHT_COUNTER = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "InFlightRequests");
+
+    private static final String FAILURES_METER = MetricNaming.forModule(JerseyClientInstrumentedModule.class).name("Client", "Failures");
+
     private final Timer requestTimer;
+    private final Timer failedTimer;
+    private final Counter inFlight;
+    private final Map<String, Meter> failureMeters;
+    private final Meter serverErrors;
+    private final Timer entityReadTimer;
+    private final Timer deserializationTimer;
+    private final Timer totalTimer;
+    private final ClientTargetMetrics targetMetrics;
 
     public RequestTimer(MetricRegistry metricRegistry) {
+        this(metricRegistry, new ClientTargetMetrics(metricRegistry));
+    }
+
+    /**
+     * @since 4.0
+     */
+    public RequestTimer(MetricRegistry metricRegistry, ClientTargetMetrics targetMetrics) {
+        this.targetMetrics = targetMetrics;
+        this.failureMeters = Map.of(
+                TIMEOUT_FAILURE, metricRegistry.meter(failuresMeterName(TIMEOUT_FAILURE)),
+                CONNECT_FAILURE, metricRegistry.meter(failuresMeterName(CONNECT_FAILURE)),
+                OTHER_FAILURE, metricRegistry.meter(failuresMeterName(OTHER_FAILURE)));
         this.requestTimer = metricRegistry.timer(TIMER_NAME);
+        this.failedTimer = metricRegistry.timer(FAILED_TIMER_NAME);
+        this.inFlight = metricRegistry.counter(IN_FLIGHT_COUNTER);
+        this.serverErrors = metricRegistry.meter(SERVER_ERRORS_METER);
+        this.entityReadTimer = metricRegistry.timer(ENTITY_READ_TIMER_NAME);
+        this.deserializationTimer = metricRegistry.timer(DESERIALIZATION_TIMER_NAME);
+        this.totalTimer = metricRegistry.timer(TOTAL_TIMER_NAME);
     }
 
     @Override
     public void filter(ClientRequestContext requestContext) {
         Timer.Context requestTimerContext = requestTimer.time();
         requestContext.setProperty(TIMER_PROPERTY, requestTimerContext);
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+        String target = targetName(requestContext);
+        requestContext.setProperty(TARGET_PROPERTY, target);
+
+        inFlight.inc();
+        targetMetrics.inFlightCounter(target).inc();
 
         LOGGER.info("started");
 
-        // note that response filter method may not be called at all if the
-        // request results in connection exception, etc... Would be nice to
-        // trace failed requests too, but nothing in JAX RS allows us to do
-        // that directly...
+        // note that response filter method is not called if the request results in connection exception, etc.
+        // Such requests are timed in "onException"
+    }
+
+    /**
+     * Returns a name of the meter of requests that failed because of a given cause.
+     *
+     * @since 4.0
+     */
+    public static String failuresMeterName(String cause) {
+        return FAILURES_METER + "." + cause;
+    }
+
+    private static String failureCause(Iterable<Throwable> throwables) {
+        for (Throwable th : throwables) {
+            String cause = failureCause(th);
+            if (!OTHER_FAILURE.equals(cause)) {
+                return cause;
+            }
+        }
+
+        return OTHER_FAILURE;
+    }
+
+    static String failureCause(Throwable th) {
+
+        // connect timeouts are counted as timeouts. Checking timeouts first, as some connect timeout exceptions are
+        // subclasses of the general timeout exceptions
+        if (RequestFailures.isTimeout(th)) {
+            return TIMEOUT_FAILURE;
+        }
+
+        return RequestFailures.isConnectFailure(th) ? CONNECT_FAILURE : OTHER_FAILURE;
     }
 
     @Override
@@ -73,9 +215,126 @@ public class RequestTimer implements ClientRequestFilter, ClientResponseFilter {
 
         Timer.Context requestTimerContext = (Timer.Context) requestContext.getProperty(TIMER_PROPERTY);
 
-        // TODO: this timing does not take into account reading response content...
-        //  May need to add additional interceptor for that.
+        // the request got a response, so it must not be reported as failed if a later processing stage throws
+        requestContext.removeProperty(TIMER_PROPERTY);
+
+        // this timing does not take into account reading response content. It is measured in "aroundReadFrom"
         long timeNanos = requestTimerContext.stop();
         LOGGER.info("finished in {} ms", timeNanos / 1000000);
+
+        String target = (String) requestContext.getProperty(TARGET_PROPERTY);
+        inFlight.dec();
+        targetMetrics.inFlightCounter(target).dec();
+        targetMetrics.targetTimer(target).update(timeNanos, TimeUnit.NANOSECONDS);
+        targetMetrics
+                .endpointTimer(target, requestContext.getMethod(), responseContext.getStatus(), requestContext.getUri().getRawPath())
+                .update(timeNanos, TimeUnit.NANOSECONDS);
+
+        if (responseContext.getStatus() >= 500) {
+            serverErrors.mark();
+            targetMetrics.serverErrorsMeter(target).mark();
+        }
+    }
+
+    @Override
+    public void afterRequest(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        // all the response timings are recorded by the response filter
+    }
+
+    @Override
+    public void onException(ClientRequestContext requestContext, ExceptionContext exceptionContext) {
+
+        // the timer context is still present only if the request failed before the response filter was invoked
+        if (requestContext.getProperty(TIMER_PROPERTY) == null) {
+            return;
+        }
+
+        requestContext.removeProperty(TIMER_PROPERTY);
+
+        long timeNanos = System.nanoTime() - (Long) requestContext.getProperty(START_PROPERTY);
+        String target = (String) requestContext.getProperty(TARGET_PROPERTY);
+        String cause = failureCause(exceptionContext.getThrowables());
+
+        LOGGER.info("failed in {} ms ({})", timeNanos / 1000000, cause);
+
+        inFlight.dec();
+        targetMetrics.inFlightCounter(target).dec();
+        failedTimer.update(timeNanos, TimeUnit.NANOSECONDS);
+        failureMeters.get(cause).mark();
+        targetMetrics.failedTimer(target).update(timeNanos, TimeUnit.NANOSECONDS);
+        targetMetrics.failuresMeter(target, cause).mark();
+    }
+
+    private static String targetName(ClientRequestContext requestContext) {
+        Object name = requestContext.getConfiguration().getProperty(HttpTargets.TARGET_NAME_PROPERTY);
+        return name != null ? name.toString() : ClientTargetMetrics.UNNAMED_TARGET;
+    }
+
+    @Override
+    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+
+        Long start = (Long) context.getProperty(START_PROPERTY);
+        if (start == null) {
+            return context.proceed();
+        }
+
+        TimedInputStream in = new TimedInputStream(context.getInputStream());
+        context.setInputStream(in);
+
+        long readStart = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            long readEnd = System.nanoTime();
+
+            // note that when the entity is read as a stream, reading happens after this method returns and
+            // is not included
+            entityReadTimer.update(in.readNanos, TimeUnit.NANOSECONDS);
+            deserializationTimer.update(Math.max(0L, readEnd - readStart - in.readNanos), TimeUnit.NANOSECONDS);
+            totalTimer.update(readEnd - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // accumulates time spent blocked on the underlying stream. Used by a single thread, so no synchronization
+    static class TimedInputStream extends FilterInputStream {
+
+        long readNanos;
+
+        TimedInputStream(InputStream in) {
+            super(in);
+        }
+
+        // all methods call the underlying stream directly, so that each read is timed exactly once, and the EOF
+        // behavior is the same regardless of which method the caller uses
+
+        @Override
+        public int read() throws IOException {
+            long t0 = System.nanoTime();
+            try {
+                return in.read();
+            } finally {
+                readNanos += System.nanoTime() - t0;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long t0 = System.nanoTime();
+            try {
+                return in.read(b, off, len);
+            } finally {
+                readNanos += System.nanoTime() - t0;
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long t0 = System.nanoTime();
+            try {
+                return in.skip(n);
+            } finally {
+                readNanos += System.nanoTime() - t0;
+            }
+        }
     }
 }
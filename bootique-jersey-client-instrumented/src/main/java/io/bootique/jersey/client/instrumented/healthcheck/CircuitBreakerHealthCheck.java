@@ -0,0 +1,50 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented.healthcheck;
+
+import io.bootique.jersey.client.circuitbreaker.CircuitBreaker;
+import io.bootique.metrics.health.HealthCheck;
+import io.bootique.metrics.health.HealthCheckOutcome;
+
+/**
+ * Reports the state of a target circuit breaker: critical when it is open, warning when it is half-open.
+ *
+ * @since 4.0
+ */
+public class CircuitBreakerHealthCheck implements HealthCheck {
+
+    private final CircuitBreaker breaker;
+
+    public CircuitBreakerHealthCheck(CircuitBreaker breaker) {
+        this.breaker = breaker;
+    }
+
+    @Override
+    public HealthCheckOutcome check() {
+        switch (breaker.getState()) {
+            case OPEN:
+                return HealthCheckOutcome.critical("Circuit breaker is open");
+            case HALF_OPEN:
+                return HealthCheckOutcome.warning("Circuit breaker is half-open");
+            default:
+                return HealthCheckOutcome.ok();
+        }
+    }
+}
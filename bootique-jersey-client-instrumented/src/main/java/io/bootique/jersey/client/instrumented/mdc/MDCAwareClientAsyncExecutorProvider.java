@@ -19,6 +19,8 @@
 package io.bootique.jersey.client.instrumented.mdc;
 
 import io.bootique.jersey.client.ClientAsyncExecutorProvider;
+import io.bootique.jersey.client.ClientAsyncPoolSettings;
+import io.bootique.jersey.client.instrumented.ClientAsyncPoolMetrics;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.glassfish.jersey.client.ClientAsyncExecutor;
@@ -31,9 +33,29 @@ import java.util.concurrent.*;
 @ClientAsyncExecutor
 public class MDCAwareClientAsyncExecutorProvider extends ClientAsyncExecutorProvider {
 
-    @Inject
-    public MDCAwareClientAsyncExecutorProvider(@Named("ClientAsyncThreadPoolSize") int poolSize) {
+    private final ClientAsyncPoolMetrics metrics;
+
+    public MDCAwareClientAsyncExecutorProvider(int poolSize) {
         super(poolSize);
+        this.metrics = null;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @Inject
+    public MDCAwareClientAsyncExecutorProvider(
+            @Named("ClientAsyncThreadPoolSize") int poolSize,
+            ClientAsyncPoolSettings settings,
+            ClientAsyncPoolMetrics metrics) {
+        super(poolSize, settings);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected RejectedExecutionHandler getRejectedExecutionHandler() {
+        RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+        return metrics != null ? metrics.countRejections(handler) : handler;
     }
 
     @Override
@@ -45,7 +67,7 @@ public class MDCAwareClientAsyncExecutorProvider extends ClientAsyncExecutorProv
             ThreadFactory threadFactory,
             RejectedExecutionHandler handler) {
 
-        return new MDCAwareThreadPoolExecutor(
+        ThreadPoolExecutor executor = new MDCAwareThreadPoolExecutor(
                 corePoolSize,
                 maximumPoolSize,
                 keepAliveTime,
@@ -53,5 +75,11 @@ public class MDCAwareClientAsyncExecutorProvider extends ClientAsyncExecutorProv
                 workQueue,
                 threadFactory,
                 handler);
+
+        if (metrics != null) {
+            metrics.monitor(executor);
+        }
+
+        return executor;
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented.mdc;
+
+import io.bootique.metrics.mdc.TransactionIdMDC;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An ExecutorService wrapper that propagates transaction id from the submitting thread to the execution thread.
+ *
+ * @since 4.0
+ */
+public class MDCAwareExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    public MDCAwareExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+
+        // propagate tx id to the execution threads if it exists on the calling thread
+        String txId = TransactionIdMDC.getId();
+        delegate.execute(txId != null ? new TxRunnable(command, txId) : command);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    static class TxRunnable implements Runnable {
+        final Runnable delegate;
+        final String txId;
+
+        TxRunnable(Runnable delegate, String txId) {
+            this.delegate = delegate;
+            this.txId = txId;
+        }
+
+        @Override
+        public void run() {
+            TransactionIdMDC.setId(txId);
+            try {
+                delegate.run();
+            } finally {
+                TransactionIdMDC.clearId();
+            }
+        }
+    }
+}
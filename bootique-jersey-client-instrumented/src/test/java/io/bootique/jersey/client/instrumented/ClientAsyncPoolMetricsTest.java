@@ -0,0 +1,121 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.jersey.client.AsyncQueueType;
+import io.bootique.jersey.client.AsyncRejectionPolicy;
+import io.bootique.jersey.client.ClientAsyncPoolSettings;
+import io.bootique.jersey.client.instrumented.mdc.MDCAwareClientAsyncExecutorProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ClientAsyncPoolMetricsTest {
+
+    @Test
+    public void queueDepthAndRejections() {
+
+        MetricRegistry registry = new MetricRegistry();
+        MDCAwareClientAsyncExecutorProvider provider = new MDCAwareClientAsyncExecutorProvider(
+                1,
+                new ClientAsyncPoolSettings(AsyncQueueType.array, 1, 0, AsyncRejectionPolicy.failFast, 0),
+                new ClientAsyncPoolMetrics(registry));
+
+        ExecutorService executor = provider.getExecutorService();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.submit(() -> {
+                started.countDown();
+                return await(latch);
+            });
+            executor.submit(() -> await(latch));
+            started.await();
+
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> await(latch)));
+
+            assertEquals(1, gauge(registry, ClientAsyncPoolMetrics.QUEUE_DEPTH_GAUGE));
+            assertEquals(1, gauge(registry, ClientAsyncPoolMetrics.ACTIVE_THREADS_GAUGE));
+            assertEquals(1, registry.meter(ClientAsyncPoolMetrics.REJECTIONS_METER).getCount());
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } finally {
+            latch.countDown();
+            provider.dispose(executor);
+        }
+    }
+
+    @Test
+    public void rejections_BlockedThenQueued() throws InterruptedException {
+
+        MetricRegistry registry = new MetricRegistry();
+        MDCAwareClientAsyncExecutorProvider provider = new MDCAwareClientAsyncExecutorProvider(
+                1,
+                new ClientAsyncPoolSettings(AsyncQueueType.array, 1, 0, AsyncRejectionPolicy.block, 5000),
+                new ClientAsyncPoolMetrics(registry));
+
+        ExecutorService executor = provider.getExecutorService();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.submit(() -> {
+                started.countDown();
+                return await(latch);
+            });
+            executor.submit(() -> await(latch));
+            started.await();
+
+            Thread releaser = new Thread(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                latch.countDown();
+            });
+            releaser.start();
+
+            // blocks until the queue has space, and then succeeds
+            executor.submit(() -> await(latch));
+            releaser.join();
+
+            assertEquals(0, registry.meter(ClientAsyncPoolMetrics.REJECTIONS_METER).getCount());
+        } finally {
+            latch.countDown();
+            provider.dispose(executor);
+        }
+    }
+
+    private static Object await(CountDownLatch latch) throws InterruptedException {
+        latch.await();
+        return null;
+    }
+
+    private static Object gauge(MetricRegistry registry, String name) {
+        return ((Gauge<?>) registry.getGauges().get(name)).getValue();
+    }
+}
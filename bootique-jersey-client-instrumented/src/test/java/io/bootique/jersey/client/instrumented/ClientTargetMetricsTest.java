@@ -0,0 +1,127 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClientTargetMetricsTest {
+
+    @Test
+    public void templatePath() {
+        assertEquals("/", ClientTargetMetrics.templatePath(""));
+        assertEquals("/", ClientTargetMetrics.templatePath("/"));
+        assertEquals("/users", ClientTargetMetrics.templatePath("/users"));
+        assertEquals("/users/", ClientTargetMetrics.templatePath("/users/"));
+        assertEquals("/users/{id}/orders/{id}", ClientTargetMetrics.templatePath("/users/123/orders/5"));
+        assertEquals("/docs/{id}", ClientTargetMetrics.templatePath("/docs/1b4e28ba-2fa1-11d2-883f-0016d3cca427"));
+        assertEquals("/blobs/{id}", ClientTargetMetrics.templatePath("/blobs/0123456789abcdef0123"));
+        assertEquals("/v2/api", ClientTargetMetrics.templatePath("/v2/api"));
+    }
+
+    @Test
+    public void metricPath() {
+        assertEquals("/users/_id_", ClientTargetMetrics.metricPath("/users/{id}"));
+        assertEquals("/files/a_txt", ClientTargetMetrics.metricPath("/files/a.txt"));
+        assertEquals("/q/a_b", ClientTargetMetrics.metricPath("/q/a%20b"));
+        assertEquals("/q/a_2", ClientTargetMetrics.metricPath("/q/a%2"));
+        assertEquals("/v2/my-api_x", ClientTargetMetrics.metricPath("/v2/my-api_x"));
+    }
+
+    @Test
+    public void statusClass() {
+        assertEquals("2xx", ClientTargetMetrics.statusClass(200));
+        assertEquals("4xx", ClientTargetMetrics.statusClass(404));
+        assertEquals("5xx", ClientTargetMetrics.statusClass(503));
+    }
+
+    @Test
+    public void endpointTimer() {
+        MetricRegistry registry = new MetricRegistry();
+        ClientTargetMetrics metrics = new ClientTargetMetrics(registry);
+
+        Timer t1 = metrics.endpointTimer("t1", "GET", 200, "/users/1");
+        assertSame(t1, metrics.endpointTimer("t1", "GET", 201, "/users/2"));
+        assertNotSame(t1, metrics.endpointTimer("t1", "GET", 500, "/users/1"));
+        assertNotSame(t1, metrics.endpointTimer("t2", "GET", 200, "/users/1"));
+
+        assertTrue(registry.getTimers().containsKey("bq.JerseyClient.Client.RequestTimer.t1.GET.2xx./users/_id_"));
+    }
+
+    @Test
+    public void endpointTimer_Overflow() {
+        MetricRegistry registry = new MetricRegistry();
+        ClientTargetMetrics metrics = new ClientTargetMetrics(registry, 2);
+
+        Timer a = metrics.endpointTimer("t1", "GET", 200, "/a");
+        Timer b = metrics.endpointTimer("t1", "GET", 200, "/b");
+        Timer c = metrics.endpointTimer("t1", "GET", 200, "/c");
+        Timer d = metrics.endpointTimer("t1", "GET", 200, "/d");
+
+        assertNotSame(a, b);
+        assertNotSame(a, c);
+        assertNotSame(b, c);
+        assertSame(c, d);
+
+        // known endpoints are still tracked individually
+        assertSame(a, metrics.endpointTimer("t1", "GET", 200, "/a"));
+
+        assertEquals(3, registry.getTimers().size());
+        assertTrue(registry.getTimers().containsKey("bq.JerseyClient.Client.RequestTimer.t1._overflow"));
+    }
+
+    @Test
+    public void endpointTimer_OverflowPerTarget() {
+        MetricRegistry registry = new MetricRegistry();
+        ClientTargetMetrics metrics = new ClientTargetMetrics(registry, 1);
+
+        Timer a1 = metrics.endpointTimer("t1", "GET", 200, "/a");
+        Timer b1 = metrics.endpointTimer("t1", "GET", 200, "/b");
+
+        // another target has its own endpoint budget
+        Timer a2 = metrics.endpointTimer("t2", "GET", 200, "/a");
+        Timer b2 = metrics.endpointTimer("t2", "GET", 200, "/b");
+
+        assertNotSame(a1, a2);
+        assertNotSame(b1, b2);
+        assertNotSame(a1, b1);
+        assertNotSame(a2, b2);
+
+        assertTrue(registry.getTimers().containsKey("bq.JerseyClient.Client.RequestTimer.t1.GET.2xx./a"));
+        assertTrue(registry.getTimers().containsKey("bq.JerseyClient.Client.RequestTimer.t2.GET.2xx./a"));
+        assertTrue(registry.getTimers().containsKey("bq.JerseyClient.Client.RequestTimer.t1._overflow"));
+        assertTrue(registry.getTimers().containsKey("bq.JerseyClient.Client.RequestTimer.t2._overflow"));
+    }
+
+    @Test
+    public void targetTimer() {
+        MetricRegistry registry = new MetricRegistry();
+        ClientTargetMetrics metrics = new ClientTargetMetrics(registry);
+
+        assertSame(metrics.targetTimer("t1"), metrics.targetTimer("t1"));
+        assertTrue(registry.getTimers().containsKey("bq.JerseyClient.Client.RequestTimer.t1"));
+    }
+}
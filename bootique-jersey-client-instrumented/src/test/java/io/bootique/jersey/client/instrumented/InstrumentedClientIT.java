@@ -40,13 +40,13 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.Test;
 
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @BQTest
 public class InstrumentedClientIT {
@@ -76,7 +76,12 @@ public class InstrumentedClientIT {
         // fault filter to init metrics
         client.getInstance(RequestTimer.class);
         MetricRegistry metricRegistry = client.getInstance(MetricRegistry.class);
-        Set<String> expectedTimers = new HashSet<>(asList("bq.JerseyClient.Client.RequestTimer"));
+        Set<String> expectedTimers = new HashSet<>(asList(
+                "bq.JerseyClient.Client.RequestTimer",
+                "bq.JerseyClient.Client.EntityReadTimer",
+                "bq.JerseyClient.Client.DeserializationTimer",
+                "bq.JerseyClient.Client.TotalTimer",
+                "bq.JerseyClient.Client.FailedRequestTimer"));
         assertEquals(expectedTimers, metricRegistry.getTimers().keySet());
     }
 
@@ -86,9 +91,7 @@ public class InstrumentedClientIT {
         HttpClientFactory factory = client.getInstance(HttpClientFactory.class);
         MetricRegistry metrics = client.getInstance(MetricRegistry.class);
 
-        Collection<Timer> timers = metrics.getTimers().values();
-        assertEquals(1, timers.size());
-        Timer timer = timers.iterator().next();
+        Timer timer = metrics.getTimers().get(RequestTimer.TIMER_NAME);
         assertEquals(0, timer.getCount());
 
         factory.newClient().target(jetty.getUrl() + "/get").request().get().close();
@@ -96,6 +99,34 @@ public class InstrumentedClientIT {
 
         factory.newClient().target(jetty.getUrl() + "/get").request().get().close();
         assertEquals(2, timer.getCount());
+        assertEquals(0, metrics.counter(RequestTimer.IN_FLIGHT_COUNTER).getCount());
+    }
+
+    @Test
+    public void timer_EntityPhases() {
+
+        HttpClientFactory factory = client.getInstance(HttpClientFactory.class);
+        MetricRegistry metrics = client.getInstance(MetricRegistry.class);
+
+        Timer headers = metrics.getTimers().get(RequestTimer.TIMER_NAME);
+        Timer read = metrics.getTimers().get(RequestTimer.ENTITY_READ_TIMER_NAME);
+        Timer deserialization = metrics.getTimers().get(RequestTimer.DESERIALIZATION_TIMER_NAME);
+        Timer total = metrics.getTimers().get(RequestTimer.TOTAL_TIMER_NAME);
+
+        // no entity read, only the headers phase is recorded
+        factory.newClient().target(jetty.getUrl() + "/get").request().get().close();
+        assertEquals(1, headers.getCount());
+        assertEquals(0, read.getCount());
+        assertEquals(0, deserialization.getCount());
+        assertEquals(0, total.getCount());
+
+        assertEquals("got", factory.newClient().target(jetty.getUrl() + "/get").request().get(String.class));
+        assertEquals(2, headers.getCount());
+        assertEquals(1, read.getCount());
+        assertEquals(1, deserialization.getCount());
+        assertEquals(1, total.getCount());
+
+        assertTrue(total.getSnapshot().getMax() >= read.getSnapshot().getMax());
     }
 
     @Test
@@ -104,15 +135,17 @@ public class InstrumentedClientIT {
         Client jaxrsClient = client.getInstance(HttpClientFactory.class).newClient();
         MetricRegistry metrics = client.getInstance(MetricRegistry.class);
 
-        Collection<Timer> timers = metrics.getTimers().values();
-        assertEquals(1, timers.size());
-        Timer timer = timers.iterator().next();
+        Timer timer = metrics.getTimers().get(RequestTimer.TIMER_NAME);
         assertEquals(0, timer.getCount());
 
         // bad request
         String badPortUrl = getUrlBadPort(jetty.getUrl() + "/get");
         assertThrows(ProcessingException.class, () -> jaxrsClient.target(badPortUrl).request().get().close());
         assertEquals(0, timer.getCount());
+        assertEquals(1, metrics.timer(RequestTimer.FAILED_TIMER_NAME).getCount());
+        assertEquals(1, metrics.meter(RequestTimer.failuresMeterName(RequestTimer.CONNECT_FAILURE)).getCount());
+        assertEquals(1, metrics.timer(ClientTargetMetrics.targetMetricName(RequestTimer.FAILED_TIMER_NAME, ClientTargetMetrics.UNNAMED_TARGET)).getCount());
+        assertEquals(0, metrics.counter(RequestTimer.IN_FLIGHT_COUNTER).getCount());
 
         // successful request
         jaxrsClient.target(jetty.getUrl() + "/get").request().get().close();
@@ -125,9 +158,7 @@ public class InstrumentedClientIT {
         Client jaxrsClient = client.getInstance(HttpClientFactory.class).newClient();
         MetricRegistry metrics = client.getInstance(MetricRegistry.class);
 
-        Collection<Timer> timers = metrics.getTimers().values();
-        assertEquals(1, timers.size());
-        Timer timer = timers.iterator().next();
+        Timer timer = metrics.getTimers().get(RequestTimer.TIMER_NAME);
         assertEquals(0, timer.getCount());
 
         jaxrsClient.target(jetty.getUrl() + "/get500").request().get().close();
@@ -48,6 +48,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @BQTest
 public class InstrumentedClientMDCIT {
@@ -67,6 +68,12 @@ public class InstrumentedClientMDCIT {
             .module(b -> BQCoreModule.extend(b).setProperty("bq.log.logFormat", "[%date{\"dd/MMM/yyyy:HH:mm:ss,SSS\"}] %thread %level %mdc{txid:-?} %logger{1}: %msg%n%ex"))
             .createRuntime();
 
+    @BQApp(skipRun = true)
+    final BQRuntime virtualClientApp = Bootique.app()
+            .autoLoadModules()
+            .module(b -> BQCoreModule.extend(b).setProperty("bq.jerseyclient.asyncExecutor", "virtual"))
+            .createRuntime();
+
     @AfterEach
     void clearMDC() {
         TransactionIdMDC.clearId();
@@ -134,6 +141,27 @@ public class InstrumentedClientMDCIT {
         tester.expectTxIds(Map.of(0, "TEST_MDC", 1, "TEST_MDC"));
     }
 
+    @Test
+    public void mDCRxNestedAsync_VirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21 or newer");
+
+        HttpClientFactory factory = virtualClientApp.getInstance(HttpClientFactory.class);
+
+        TransactionIdMDC.setId("TEST_MDC");
+
+        MDCTester tester = new MDCTester();
+        WebTarget target = factory.newClient().register(tester).target(jetty.getUrl() + "/get");
+
+        CompletionStage<CompletionStage<Response>> rRx = target
+                .request()
+                .rx()
+                .get()
+                .thenApply(r -> target.request().rx().get());
+
+        rRx.toCompletableFuture().join().toCompletableFuture().join().close();
+        tester.expectTxIds(Map.of(0, "TEST_MDC", 1, "TEST_MDC"));
+    }
+
     @Test
     public void mDCRxNestedSync() {
 
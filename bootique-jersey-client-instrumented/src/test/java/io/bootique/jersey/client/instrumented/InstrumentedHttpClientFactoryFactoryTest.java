@@ -21,12 +21,17 @@ package io.bootique.jersey.client.instrumented;
 import com.codahale.metrics.MetricRegistry;
 import io.bootique.di.DIBootstrap;
 import io.bootique.di.Injector;
+import io.bootique.jersey.client.AsyncExecutorType;
 import io.bootique.jersey.client.ClientAsyncExecutorProvider;
 import io.bootique.jersey.client.instrumented.mdc.MDCAwareClientAsyncExecutorProvider;
+import io.bootique.jersey.client.instrumented.mdc.MDCAwareVirtualThreadClientAsyncExecutorProvider;
+import io.bootique.shutdown.DefaultShutdownManager;
 import jakarta.ws.rs.client.Client;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -35,6 +40,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class InstrumentedHttpClientFactoryFactoryTest {
 
     private final Injector injector = DIBootstrap.createInjector();
+    private final DefaultShutdownManager shutdownManager = new DefaultShutdownManager(Duration.ofSeconds(5));
+
+    @AfterEach
+    public void shutdown() {
+        shutdownManager.shutdown();
+    }
 
     @Test
     public void createClientFactory_AsyncThreadPool() {
@@ -53,4 +64,24 @@ public class InstrumentedHttpClientFactoryFactoryTest {
         }
     }
 
+    @Test
+    public void createClientFactory_VirtualAsyncExecutor() {
+
+        InstrumentedHttpClientFactoryFactory factoryFactory = new InstrumentedHttpClientFactoryFactory(
+                injector,
+                Set.of(),
+                new HttpUrlConnectorProvider(),
+                shutdownManager,
+                new MetricRegistry());
+        factoryFactory.setAsyncExecutor(AsyncExecutorType.virtual);
+
+        Client client = factoryFactory.createClientFactory().newClient();
+
+        try {
+            assertTrue(client.getConfiguration().isRegistered(MDCAwareVirtualThreadClientAsyncExecutorProvider.class));
+            assertFalse(client.getConfiguration().isRegistered(MDCAwareClientAsyncExecutorProvider.class));
+        } finally {
+            client.close();
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.bootique.metrics.health.HealthCheckRegistry;
+import io.bootique.metrics.health.HealthCheckStatus;
+import io.bootique.metrics.health.check.DoubleRangeFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory.CONNECT_FAILURE_RATE_CHECK;
+import static io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory.P95_LATENCY_CHECK;
+import static io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory.P99_LATENCY_CHECK;
+import static io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory.REQUESTS_PER_MIN_CHECK;
+import static io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory.SERVER_ERROR_RATE_CHECK;
+import static io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory.TIMEOUT_RATE_CHECK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JerseyClientHealthChecksFactoryTest {
+
+    private static DoubleRangeFactory range(double warning, double critical) {
+        DoubleRangeFactory range = new DoubleRangeFactory();
+        range.setWarning(warning);
+        range.setCritical(critical);
+        return range;
+    }
+
+    private static HealthCheckStatus run(HealthCheckRegistry registry, String check) {
+        return registry.runHealthCheck(check).getStatus();
+    }
+
+    @Test
+    public void notConfigured() {
+        JerseyClientHealthChecksFactory factory = new JerseyClientHealthChecksFactory(new MetricRegistry());
+        assertEquals(Set.of(REQUESTS_PER_MIN_CHECK), factory.createHealthChecks().getHealthChecks().keySet());
+    }
+
+    @Test
+    public void percentiles() {
+        MetricRegistry metrics = new MetricRegistry();
+        JerseyClientHealthChecksFactory factory = new JerseyClientHealthChecksFactory(metrics);
+        factory.setP95Ms(range(50, 100));
+        factory.setP99Ms(range(50, 100));
+
+        HealthCheckRegistry registry = new HealthCheckRegistry(factory.createHealthChecks().getHealthChecks());
+        assertEquals(HealthCheckStatus.OK, run(registry, P95_LATENCY_CHECK));
+        assertEquals(HealthCheckStatus.OK, run(registry, P99_LATENCY_CHECK));
+
+        Timer timer = metrics.timer(RequestTimer.TIMER_NAME);
+        for (int i = 0; i < 100; i++) {
+            timer.update(i < 98 ? 10 : 200, TimeUnit.MILLISECONDS);
+        }
+
+        assertEquals(HealthCheckStatus.OK, run(registry, P95_LATENCY_CHECK));
+        assertEquals(HealthCheckStatus.CRITICAL, run(registry, P99_LATENCY_CHECK));
+    }
+
+    @Test
+    public void serverErrorRate() {
+        MetricRegistry metrics = new MetricRegistry();
+        metrics.register(RequestTimer.TIMER_NAME, new TestTimer(10.));
+        TestMeter errors = metrics.register(RequestTimer.SERVER_ERRORS_METER, new TestMeter());
+
+        JerseyClientHealthChecksFactory factory = new JerseyClientHealthChecksFactory(metrics);
+        factory.setServerErrorRate(range(0.05, 0.2));
+        HealthCheckRegistry registry = new HealthCheckRegistry(factory.createHealthChecks().getHealthChecks());
+
+        errors.rate = 0.1;
+        assertEquals(HealthCheckStatus.OK, run(registry, SERVER_ERROR_RATE_CHECK));
+
+        errors.rate = 1.;
+        assertEquals(HealthCheckStatus.WARNING, run(registry, SERVER_ERROR_RATE_CHECK));
+
+        errors.rate = 5.;
+        assertEquals(HealthCheckStatus.CRITICAL, run(registry, SERVER_ERROR_RATE_CHECK));
+    }
+
+    @Test
+    public void serverErrorRate_IncludesFailedRequests() {
+        MetricRegistry metrics = new MetricRegistry();
+        metrics.register(RequestTimer.TIMER_NAME, new TestTimer(8.));
+        metrics.register(RequestTimer.FAILED_TIMER_NAME, new TestTimer(2.));
+        TestMeter errors = metrics.register(RequestTimer.SERVER_ERRORS_METER, new TestMeter());
+
+        JerseyClientHealthChecksFactory factory = new JerseyClientHealthChecksFactory(metrics);
+        factory.setServerErrorRate(range(0.11, 0.2));
+        HealthCheckRegistry registry = new HealthCheckRegistry(factory.createHealthChecks().getHealthChecks());
+
+        // 1 out of 10 requests, not 1 out of 8
+        errors.rate = 1.;
+        assertEquals(HealthCheckStatus.OK, run(registry, SERVER_ERROR_RATE_CHECK));
+    }
+
+    @Test
+    public void timeoutRate() {
+        MetricRegistry metrics = new MetricRegistry();
+        metrics.register(RequestTimer.TIMER_NAME, new TestTimer(8.));
+        metrics.register(RequestTimer.FAILED_TIMER_NAME, new TestTimer(2.));
+        TestMeter timeouts = metrics.register(RequestTimer.failuresMeterName(RequestTimer.TIMEOUT_FAILURE), new TestMeter());
+
+        JerseyClientHealthChecksFactory factory = new JerseyClientHealthChecksFactory(metrics);
+        factory.setTimeoutRate(range(0.05, 0.2));
+        factory.setConnectFailureRate(range(0.05, 0.2));
+        HealthCheckRegistry registry = new HealthCheckRegistry(factory.createHealthChecks().getHealthChecks());
+
+        timeouts.rate = 0.1;
+        assertEquals(HealthCheckStatus.OK, run(registry, TIMEOUT_RATE_CHECK));
+
+        timeouts.rate = 1.;
+        assertEquals(HealthCheckStatus.WARNING, run(registry, TIMEOUT_RATE_CHECK));
+
+        timeouts.rate = 3.;
+        assertEquals(HealthCheckStatus.CRITICAL, run(registry, TIMEOUT_RATE_CHECK));
+        assertEquals(HealthCheckStatus.OK, run(registry, CONNECT_FAILURE_RATE_CHECK));
+    }
+
+    @Test
+    public void perTarget() {
+        MetricRegistry metrics = new MetricRegistry();
+
+        JerseyClientTargetHealthChecksFactory t1 = new JerseyClientTargetHealthChecksFactory();
+        t1.setP95Ms(range(50, 100));
+
+        JerseyClientHealthChecksFactory factory = new JerseyClientHealthChecksFactory(metrics);
+        factory.setTargets(Map.of("t1", t1));
+
+        HealthCheckRegistry registry = new HealthCheckRegistry(factory.createHealthChecks().getHealthChecks());
+        String check = ClientTargetMetrics.targetMetricName(P95_LATENCY_CHECK, "t1");
+
+        // slow requests to other targets must not affect the check
+        metrics.timer(RequestTimer.TIMER_NAME).update(500, TimeUnit.MILLISECONDS);
+        new ClientTargetMetrics(metrics).targetTimer("t2").update(500, TimeUnit.MILLISECONDS);
+        assertEquals(HealthCheckStatus.OK, run(registry, check));
+
+        new ClientTargetMetrics(metrics).targetTimer("t1").update(70, TimeUnit.MILLISECONDS);
+        assertEquals(HealthCheckStatus.WARNING, run(registry, check));
+    }
+
+    private static class TestTimer extends Timer {
+        private final double oneMinuteRate;
+
+        TestTimer(double oneMinuteRate) {
+            this.oneMinuteRate = oneMinuteRate;
+        }
+
+        @Override
+        public double getOneMinuteRate() {
+            return oneMinuteRate;
+        }
+    }
+
+    private static class TestMeter extends Meter {
+        double rate;
+
+        @Override
+        public double getOneMinuteRate() {
+            return rate;
+        }
+    }
+}
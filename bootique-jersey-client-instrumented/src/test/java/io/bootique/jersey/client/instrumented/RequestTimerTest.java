@@ -0,0 +1,61 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented;
+
+import jakarta.ws.rs.ProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RequestTimerTest {
+
+    @Test
+    public void failureCause() {
+        assertEquals(RequestTimer.TIMEOUT_FAILURE, RequestTimer.failureCause(new ProcessingException(new SocketTimeoutException("Read timed out"))));
+        assertEquals(RequestTimer.TIMEOUT_FAILURE, RequestTimer.failureCause(new ProcessingException(new HttpConnectTimeoutException("x"))));
+        assertEquals(RequestTimer.CONNECT_FAILURE, RequestTimer.failureCause(new ProcessingException(new ConnectException("Connection refused"))));
+        assertEquals(RequestTimer.CONNECT_FAILURE, RequestTimer.failureCause(new ProcessingException(new UnknownHostException("x"))));
+        assertEquals(RequestTimer.OTHER_FAILURE, RequestTimer.failureCause(new ProcessingException(new IOException("x"))));
+        assertEquals(RequestTimer.OTHER_FAILURE, RequestTimer.failureCause(new ProcessingException("x")));
+    }
+
+    @Test
+    public void timedInputStream() throws IOException {
+        RequestTimer.TimedInputStream in = new RequestTimer.TimedInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        assertEquals(1, in.read());
+
+        byte[] buffer = new byte[4];
+        assertEquals(2, in.read(buffer, 0, 4));
+        assertArrayEquals(new byte[]{2, 3, 0, 0}, buffer);
+
+        // the same end-of-stream result from both read flavors
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(buffer, 0, 4));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.instrumented.healthcheck;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreaker;
+import io.bootique.jersey.client.instrumented.ClientTargetMetrics;
+import io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory;
+import io.bootique.metrics.health.HealthCheckRegistry;
+import io.bootique.metrics.health.HealthCheckStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.bootique.jersey.client.instrumented.JerseyClientHealthChecksFactory.CIRCUIT_BREAKER_CHECK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class CircuitBreakerHealthCheckTest {
+
+    @Test
+    public void states() {
+
+        // opens on the first failure, and lets a trial request through right away
+        CircuitBreaker breaker = new CircuitBreaker(1., 0, 1, 1, 0, 1);
+
+        JerseyClientHealthChecksFactory factory = new JerseyClientHealthChecksFactory(new MetricRegistry());
+        HealthCheckRegistry registry = new HealthCheckRegistry(factory.createHealthChecks(Map.of("t1", breaker)).getHealthChecks());
+        String check = ClientTargetMetrics.targetMetricName(CIRCUIT_BREAKER_CHECK, "t1");
+
+        assertEquals(HealthCheckStatus.OK, registry.runHealthCheck(check).getStatus());
+
+        breaker.onResult(breaker.tryAcquire(), 0, true);
+        assertEquals(HealthCheckStatus.CRITICAL, registry.runHealthCheck(check).getStatus());
+
+        long trial = breaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, trial);
+        assertEquals(HealthCheckStatus.WARNING, registry.runHealthCheck(check).getStatus());
+
+        breaker.onResult(trial, 0, false);
+        assertEquals(HealthCheckStatus.OK, registry.runHealthCheck(check).getStatus());
+    }
+}
@@ -27,6 +27,14 @@ import org.glassfish.jersey.internal.util.collection.Value;
 import org.glassfish.jersey.internal.util.collection.Values;
 import org.glassfish.jersey.spi.ThreadPoolExecutorProvider;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 // a copy of non-public Jersey DefaultClientAsyncExecutorProvider that allows us to customize async pool parameters
@@ -36,12 +44,24 @@ public class ClientAsyncExecutorProvider extends ThreadPoolExecutorProvider {
     private static final Logger LOGGER = Logger.getLogger(ClientAsyncExecutorProvider.class.getName());
 
     private final LazyValue<Integer> asyncThreadPoolSize;
+    private final ClientAsyncPoolSettings settings;
 
+    public ClientAsyncExecutorProvider(int poolSize) {
+        this(poolSize, ClientAsyncPoolSettings.defaults());
+    }
+
+    /**
+     * @since 4.0
+     */
     @Inject
-    public ClientAsyncExecutorProvider(@Named("ClientAsyncThreadPoolSize") final int poolSize) {
+    public ClientAsyncExecutorProvider(
+            @Named("ClientAsyncThreadPoolSize") final int poolSize,
+            ClientAsyncPoolSettings settings) {
 
         super("bootique-http-client-async");
 
+        this.settings = settings;
+
         this.asyncThreadPoolSize = Values.lazy((Value<Integer>) () -> {
             if (poolSize <= 0) {
                 LOGGER.config(LocalizationMessages.IGNORED_ASYNC_THREADPOOL_SIZE(poolSize));
@@ -63,4 +83,100 @@ public class ClientAsyncExecutorProvider extends ThreadPoolExecutorProvider {
         int maximumPoolSize = getMaximumPoolSize();
         return maximumPoolSize < Integer.MAX_VALUE ? maximumPoolSize : 0;
     }
+
+    /**
+     * @since 4.0
+     */
+    protected ClientAsyncPoolSettings getSettings() {
+        return settings;
+    }
+
+    @Override
+    protected BlockingQueue<Runnable> getWorkQueue() {
+
+        // an unbounded pool never queues, so the queue settings only apply to fixed-size pools
+        if (settings.getQueueType() == null && settings.getQueueCapacity() <= 0
+                || getMaximumPoolSize() == Integer.MAX_VALUE) {
+            return super.getWorkQueue();
+        }
+
+        AsyncQueueType queueType = settings.getQueueType() != null ? settings.getQueueType() : AsyncQueueType.linked;
+        int capacity = settings.getQueueCapacity();
+
+        switch (queueType) {
+            case synchronous:
+                return new SynchronousQueue<>();
+            case array:
+                if (capacity <= 0) {
+                    throw new IllegalStateException("'asyncQueueCapacity' must be positive for the 'array' queue type");
+                }
+                return new ArrayBlockingQueue<>(capacity);
+            case linked:
+            default:
+                return capacity > 0 ? new LinkedBlockingQueue<>(capacity) : new LinkedBlockingQueue<>();
+        }
+    }
+
+    @Override
+    protected long getKeepAliveTime() {
+
+        // Jersey measures keep-alive in seconds. Rounding up to avoid turning short intervals into zero
+        long keepAliveMs = settings.getKeepAliveMs();
+        return keepAliveMs > 0
+                ? TimeUnit.MILLISECONDS.toSeconds(keepAliveMs + 999)
+                : super.getKeepAliveTime();
+    }
+
+    @Override
+    protected RejectedExecutionHandler getRejectedExecutionHandler() {
+
+        AsyncRejectionPolicy policy = settings.getRejectionPolicy();
+        if (policy == null) {
+            return super.getRejectedExecutionHandler();
+        }
+
+        switch (policy) {
+            case callerRuns:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case block:
+                return new BlockingRejectionHandler(settings.getRejectionTimeoutMs());
+            case failFast:
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    static class BlockingRejectionHandler implements RejectedExecutionHandler {
+
+        private final long timeoutMs;
+
+        BlockingRejectionHandler(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Client async executor is shut down");
+            }
+
+            boolean queued;
+            try {
+                if (timeoutMs > 0) {
+                    queued = executor.getQueue().offer(r, timeoutMs, TimeUnit.MILLISECONDS);
+                } else {
+                    executor.getQueue().put(r);
+                    queued = true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for space in the client async queue", e);
+            }
+
+            if (!queued) {
+                throw new RejectedExecutionException("Timed out after " + timeoutMs + " ms waiting for space in the client async queue");
+            }
+        }
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client;
+
+/**
+ * Configuration of the client async thread pool passed to {@link ClientAsyncExecutorProvider}. Unset properties
+ * (nulls or zeros) preserve the Jersey defaults.
+ *
+ * @since 4.0
+ */
+public class ClientAsyncPoolSettings {
+
+    private static final ClientAsyncPoolSettings DEFAULTS = new ClientAsyncPoolSettings(null, 0, 0, null, 0);
+
+    private final AsyncQueueType queueType;
+    private final int queueCapacity;
+    private final long keepAliveMs;
+    private final AsyncRejectionPolicy rejectionPolicy;
+    private final long rejectionTimeoutMs;
+
+    public ClientAsyncPoolSettings(
+            AsyncQueueType queueType,
+            int queueCapacity,
+            long keepAliveMs,
+            AsyncRejectionPolicy rejectionPolicy,
+            long rejectionTimeoutMs) {
+
+        this.queueType = queueType;
+        this.queueCapacity = queueCapacity;
+        this.keepAliveMs = keepAliveMs;
+        this.rejectionPolicy = rejectionPolicy;
+        this.rejectionTimeoutMs = rejectionTimeoutMs;
+    }
+
+    public static ClientAsyncPoolSettings defaults() {
+        return DEFAULTS;
+    }
+
+    public AsyncQueueType getQueueType() {
+        return queueType;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getKeepAliveMs() {
+        return keepAliveMs;
+    }
+
+    public AsyncRejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    public long getRejectionTimeoutMs() {
+        return rejectionTimeoutMs;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.util.TimeValue;
+
+import javax.net.ssl.SSLContext;
+import java.util.Objects;
+
+/**
+ * Configures a pool of HTTP connections used by the Apache HttpClient 5 connector.
+ *
+ * @since 4.0
+ */
+@BQConfig("Pool of HTTP connections reused between requests")
+public class ConnectionPoolFactory {
+
+    private static final int DEFAULT_MAX_TOTAL = 100;
+    private static final int DEFAULT_MAX_PER_ROUTE = 20;
+    private static final long DEFAULT_IDLE_EVICTION_MS = 30_000;
+    private static final long DEFAULT_VALIDATE_AFTER_INACTIVITY_MS = 2_000;
+
+    private int maxTotal;
+    private int maxPerRoute;
+    private long idleEvictionMs;
+    private long validateAfterInactivityMs;
+
+    public ConnectionPoolFactory() {
+        this.maxTotal = DEFAULT_MAX_TOTAL;
+        this.maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+        this.idleEvictionMs = DEFAULT_IDLE_EVICTION_MS;
+        this.validateAfterInactivityMs = DEFAULT_VALIDATE_AFTER_INACTIVITY_MS;
+    }
+
+    @BQConfigProperty("Max number of open connections across all hosts. The default is 100.")
+    public void setMaxTotal(int maxTotal) {
+        this.maxTotal = maxTotal;
+    }
+
+    @BQConfigProperty("Max number of open connections to a single host. The default is 20.")
+    public void setMaxPerRoute(int maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+    }
+
+    @BQConfigProperty("Connections that stayed idle for longer than this value are closed by a background thread. " +
+            "The default is 30000 ms. Zero or negative value disables idle connection eviction.")
+    public void setIdleEvictionMs(long idleEvictionMs) {
+        this.idleEvictionMs = idleEvictionMs;
+    }
+
+    @BQConfigProperty("A pooled connection that stayed idle for longer than this value is checked for staleness " +
+            "before reuse. The default is 2000 ms. Negative value disables the check.")
+    public void setValidateAfterInactivityMs(long validateAfterInactivityMs) {
+        this.validateAfterInactivityMs = validateAfterInactivityMs;
+    }
+
+    // equality allows targets with identical pool settings to share one pool (and one client)
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ConnectionPoolFactory)) {
+            return false;
+        }
+
+        ConnectionPoolFactory that = (ConnectionPoolFactory) o;
+        return maxTotal == that.maxTotal
+                && maxPerRoute == that.maxPerRoute
+                && idleEvictionMs == that.idleEvictionMs
+                && validateAfterInactivityMs == that.validateAfterInactivityMs;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxTotal, maxPerRoute, idleEvictionMs, validateAfterInactivityMs);
+    }
+
+    public long getIdleEvictionMs() {
+        return idleEvictionMs;
+    }
+
+    public PoolingHttpClientConnectionManager createConnectionManager(SSLContext sslContext) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create().setSslContext(sslContext).build())
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                        .build())
+                .build();
+    }
+}
@@ -22,25 +22,79 @@ package io.bootique.jersey.client;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.ClientRequestFilter;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.glassfish.jersey.SslConfigurator;
+import org.glassfish.jersey.apache5.connector.Apache5ClientProperties;
+import org.glassfish.jersey.apache5.connector.Apache5ConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.jnh.connector.JavaNetHttpClientProperties;
+import org.glassfish.jersey.jnh.connector.JavaNetHttpConnectorProvider;
 
+import javax.net.ssl.SSLContext;
+import java.net.http.HttpClient;
 import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class DefaultHttpClientFactory implements HttpClientFactory {
 
     private ClientConfig config;
     private Map<String, ClientRequestFilter> authFilters;
     private Map<String, KeyStore> trustStores;
+    private ConnectionPoolFactory connectionPool;
+    private boolean http2;
+
+    // connection managers are shared between the clients with the same pool and trust store configuration
+    private final ConcurrentMap<PoolKey, PoolingHttpClientConnectionManager> connectionManagers;
+    private volatile ScheduledExecutorService idleConnectionEvictor;
+
+    // shared clients are thread-safe and are reused by all callers requesting a client with the same settings
+    private final ConcurrentMap<ClientKey, Client> sharedClients;
 
     public DefaultHttpClientFactory(
             ClientConfig config,
             Map<String, ClientRequestFilter> authFilters,
             Map<String, KeyStore> trustStores) {
+        this(config, authFilters, trustStores, null);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public DefaultHttpClientFactory(
+            ClientConfig config,
+            Map<String, ClientRequestFilter> authFilters,
+            Map<String, KeyStore> trustStores,
+            ConnectionPoolFactory connectionPool) {
+        this(config, authFilters, trustStores, connectionPool, false);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public DefaultHttpClientFactory(
+            ClientConfig config,
+            Map<String, ClientRequestFilter> authFilters,
+            Map<String, KeyStore> trustStores,
+            ConnectionPoolFactory connectionPool,
+            boolean http2) {
 
         this.authFilters = authFilters;
         this.config = config;
         this.trustStores = trustStores;
+        this.connectionPool = connectionPool;
+        this.http2 = http2;
+        this.connectionManagers = new ConcurrentHashMap<>();
+        this.sharedClients = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -50,6 +104,25 @@ public class DefaultHttpClientFactory implements HttpClientFactory {
         return new DefaultHttpClientBuilder(builderDelegate);
     }
 
+    /**
+     * Closes shared clients and connection pools shared by the clients created by this factory.
+     *
+     * @since 4.0
+     */
+    public void shutdown() {
+
+        sharedClients.values().forEach(Client::close);
+        sharedClients.clear();
+
+        ScheduledExecutorService evictor = this.idleConnectionEvictor;
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+
+        connectionManagers.values().forEach(cm -> cm.close(CloseMode.GRACEFUL));
+        connectionManagers.clear();
+    }
+
     private ClientRequestFilter namedAuth(String name) {
         ClientRequestFilter filter = authFilters.get(name);
         if (filter == null) {
@@ -68,26 +141,179 @@ public class DefaultHttpClientFactory implements HttpClientFactory {
         return trustStore;
     }
 
+    private PoolingHttpClientConnectionManager connectionManager(ConnectionPoolFactory pool, String trustStoreName) {
+        return connectionManagers.computeIfAbsent(
+                new PoolKey(pool, trustStoreName),
+                k -> createConnectionManager(pool, trustStoreName));
+    }
+
+    private PoolingHttpClientConnectionManager createConnectionManager(ConnectionPoolFactory pool, String trustStoreName) {
+
+        SSLContext sslContext = trustStoreName != null
+                ? SslConfigurator.newInstance().trustStore(namedTrustStore(trustStoreName)).createSSLContext()
+                : SslConfigurator.getDefaultContext();
+
+        PoolingHttpClientConnectionManager cm = pool.createConnectionManager(sslContext);
+
+        long idleEvictionMs = pool.getIdleEvictionMs();
+        if (idleEvictionMs > 0) {
+
+            // the manager is shared, so HttpClient won't evict its connections. Doing it here instead
+            TimeValue maxIdle = TimeValue.ofMilliseconds(idleEvictionMs);
+            idleConnectionEvictor().scheduleWithFixedDelay(() -> {
+                cm.closeExpired();
+                cm.closeIdle(maxIdle);
+            }, idleEvictionMs, idleEvictionMs, TimeUnit.MILLISECONDS);
+        }
+
+        return cm;
+    }
+
+    private ScheduledExecutorService idleConnectionEvictor() {
+
+        if (idleConnectionEvictor == null) {
+            synchronized (this) {
+                if (idleConnectionEvictor == null) {
+                    idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                        Thread t = new Thread(r, "bootique-http-client-idle-connection-evictor");
+                        t.setDaemon(true);
+                        return t;
+                    });
+                }
+            }
+        }
+
+        return idleConnectionEvictor;
+    }
+
     public class DefaultHttpClientBuilder implements HttpClientBuilder {
 
         private ClientBuilder delegate;
+        private List<String> authNames;
+        private String trustStoreName;
+        private ConnectionPoolFactory connectionPool;
+        private boolean http2;
 
         public DefaultHttpClientBuilder(ClientBuilder delegate) {
             this.delegate = delegate;
+            this.authNames = new ArrayList<>(1);
+            this.connectionPool = DefaultHttpClientFactory.this.connectionPool;
+            this.http2 = DefaultHttpClientFactory.this.http2;
         }
 
         public Client build() {
+
+            // JDK HttpClient multiplexes HTTP/2 requests over a single connection per host and doesn't need a pool
+            if (http2) {
+                ((ClientConfig) delegate.getConfiguration()).connectorProvider(new JavaNetHttpConnectorProvider());
+                delegate.property(JavaNetHttpClientProperties.HTTP_VERSION, HttpClient.Version.HTTP_2);
+            } else if (connectionPool != null) {
+                ((ClientConfig) delegate.getConfiguration()).connectorProvider(new Apache5ConnectorProvider());
+                delegate.property(Apache5ClientProperties.CONNECTION_MANAGER, connectionManager(connectionPool, trustStoreName));
+                delegate.property(Apache5ClientProperties.CONNECTION_MANAGER_SHARED, true);
+            }
+
             return delegate.build();
         }
 
+        @Override
+        public Client buildShared() {
+            return sharedClients.computeIfAbsent(
+                    new ClientKey(authNames, trustStoreName, connectionPool, http2),
+                    k -> build());
+        }
+
         public HttpClientBuilder auth(String authName) {
             delegate.register(namedAuth(authName));
+            authNames.add(authName);
             return this;
         }
 
         public HttpClientBuilder trustStore(String trustStoreName) {
             delegate.trustStore(namedTrustStore(trustStoreName));
+            this.trustStoreName = trustStoreName;
+            return this;
+        }
+
+        @Override
+        public HttpClientBuilder connectionPool(ConnectionPoolFactory connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
+        @Override
+        public HttpClientBuilder http2(boolean http2) {
+            this.http2 = http2;
             return this;
         }
     }
+
+    static final class ClientKey {
+
+        private final List<String> authNames;
+        private final String trustStoreName;
+        private final ConnectionPoolFactory pool;
+        private final boolean http2;
+        private final int hashCode;
+
+        ClientKey(List<String> authNames, String trustStoreName, ConnectionPoolFactory pool, boolean http2) {
+            this.authNames = List.copyOf(authNames);
+            this.trustStoreName = trustStoreName;
+            this.pool = pool;
+            this.http2 = http2;
+            this.hashCode = Objects.hash(this.authNames, trustStoreName, pool, http2);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof ClientKey)) {
+                return false;
+            }
+
+            ClientKey that = (ClientKey) o;
+            return http2 == that.http2
+                    && authNames.equals(that.authNames)
+                    && Objects.equals(trustStoreName, that.trustStoreName)
+                    && Objects.equals(pool, that.pool);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    static final class PoolKey {
+
+        private final ConnectionPoolFactory pool;
+        private final String trustStoreName;
+
+        PoolKey(ConnectionPoolFactory pool, String trustStoreName) {
+            this.pool = pool;
+            this.trustStoreName = trustStoreName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof PoolKey)) {
+                return false;
+            }
+
+            PoolKey that = (PoolKey) o;
+            return pool.equals(that.pool) && Objects.equals(trustStoreName, that.trustStoreName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * pool.hashCode() + Objects.hashCode(trustStoreName);
+        }
+    }
 }
@@ -29,7 +29,46 @@ public interface HttpClientBuilder {
 
     Client build();
 
+    /**
+     * Returns a thread-safe client shared with all other callers that requested a client with the same settings.
+     * Unlike {@link #build()}, this avoids the cost of creating a new Jersey runtime and connector per call. The
+     * returned client is owned by the factory and is closed on shutdown, so the caller must not close it.
+     * <p>
+     * The default implementation simply calls {@link #build()}, so builders that don't support sharing still return
+     * a usable (though unshared) client.
+     *
+     * @since 4.0
+     */
+    default Client buildShared() {
+        return build();
+    }
+
     HttpClientBuilder auth(String authName);
 
     HttpClientBuilder trustStore(String trustStoreName);
+
+    /**
+     * Makes the client use a pooled Apache HttpClient 5 connector with the connection pool settings, overriding the
+     * pool configured for the factory (if any). The default implementation throws, so custom builders must override
+     * it to support connection pools.
+     *
+     * @throws UnsupportedOperationException if the builder does not support connection pool configuration
+     * @since 4.0
+     */
+    default HttpClientBuilder connectionPool(ConnectionPoolFactory connectionPool) {
+        throw new UnsupportedOperationException("Connection pool configuration is not supported by "
+                + getClass().getName());
+    }
+
+    /**
+     * Enables or disables HTTP/2 connector based on JDK {@link java.net.http.HttpClient}, overriding the factory
+     * setting. When enabled, it takes precedence over the connection pool settings. The default implementation
+     * throws, so custom builders must override it to support HTTP/2.
+     *
+     * @throws UnsupportedOperationException if the builder does not support switching the HTTP protocol version
+     * @since 4.0
+     */
+    default HttpClientBuilder http2(boolean http2) {
+        throw new UnsupportedOperationException("HTTP/2 configuration is not supported by " + getClass().getName());
+    }
 }
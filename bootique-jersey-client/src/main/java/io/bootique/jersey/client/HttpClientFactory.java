@@ -36,6 +36,17 @@ public interface HttpClientFactory {
         return newBuilder().build();
     }
 
+    /**
+     * Returns a shared thread-safe instance of JAX-RS HTTP {@link Client} initialized using "jerseyclient" configuration
+     * subtree. The caller must not close the returned client.
+     *
+     * @return a shared instance of JAX-RS HTTP client initialized using "jerseyclient" configuration subtree.
+     * @since 4.0
+     */
+    default Client sharedClient() {
+        return newBuilder().buildShared();
+    }
+
     /**
      * A builder for a new client. Allows to create a client with Bootique configuration-driven settings and select
      * a preconfigured authentication and trust store.
@@ -23,8 +23,17 @@ import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 import io.bootique.di.BQInject;
 import io.bootique.di.Injector;
+import io.bootique.di.Key;
 import io.bootique.jersey.client.auth.AuthenticatorFactory;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreaker;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreakerFilter;
+import io.bootique.jersey.client.limit.AimdLimiter;
+import io.bootique.jersey.client.limit.ConcurrencyLimitFactory;
+import io.bootique.jersey.client.limit.ConcurrencyLimitFilter;
+import io.bootique.jersey.client.log.AccessLogFactory;
+import io.bootique.jersey.client.log.AccessLogger;
 import io.bootique.jersey.client.log.RequestLogger;
+import io.bootique.shutdown.ShutdownManager;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Feature;
@@ -52,30 +61,66 @@ public class HttpClientFactoryFactory {
     private final Injector injector;
     private final Set<Feature> features;
     private final ConnectorProvider connectorProvider;
+    private final ShutdownManager shutdownManager;
 
     protected boolean followRedirects;
     protected boolean compression;
     protected int readTimeoutMs;
     protected int connectTimeoutMs;
     protected int asyncThreadPoolSize;
+    protected AsyncExecutorType asyncExecutor;
+    protected AsyncQueueType asyncQueueType;
+    protected int asyncQueueCapacity;
+    protected long asyncKeepAliveMs;
+    protected AsyncRejectionPolicy asyncRejectionPolicy;
+    protected long asyncRejectionTimeoutMs;
     protected Map<String, AuthenticatorFactory> auth;
     protected Map<String, TrustStoreFactory> trustStores;
+    protected ConnectionPoolFactory connectionPool;
+    protected boolean http2;
+    protected boolean cacheTargets;
+    protected AccessLogFactory accessLog;
+    protected ConcurrencyLimitFactory concurrencyLimit;
     protected Map<String, WebTargetFactory> targets;
 
+    private Map<String, CircuitBreaker> circuitBreakers;
+
+    /**
+     * @deprecated in favor of the constructor that takes a {@link ShutdownManager}. This one takes it from the injector
+     * if available. Otherwise, the created clients are not closed on shutdown.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
+    public HttpClientFactoryFactory(
+            Injector injector,
+            Set<Feature> features,
+            ConnectorProvider connectorProvider) {
+        this(injector, features, connectorProvider, defaultShutdownManager(injector));
+    }
+
+    /**
+     * @since 4.0
+     */
     @Inject
     public HttpClientFactoryFactory(
             Injector injector,
             @JerseyClientFeatures Set<Feature> features,
-            ConnectorProvider connectorProvider) {
+            ConnectorProvider connectorProvider,
+            ShutdownManager shutdownManager) {
 
         this.injector = injector;
         this.features = features;
         this.connectorProvider = connectorProvider;
+        this.shutdownManager = shutdownManager;
 
         this.followRedirects = true;
         this.compression = true;
     }
 
+    private static ShutdownManager defaultShutdownManager(Injector injector) {
+        Key<ShutdownManager> key = Key.get(ShutdownManager.class);
+        return injector.hasProvider(key) ? injector.getInstance(key) : null;
+    }
+
     /**
      * @param auth a map of AuthenticationFactory instances by symbolic name.
      */
@@ -104,6 +149,61 @@ public class HttpClientFactoryFactory {
         this.asyncThreadPoolSize = asyncThreadPoolSize;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Sets the type of executor for async requests. 'threadPool' (default) uses a pool of platform " +
+            "threads sized by 'asyncThreadPoolSize'. 'virtual' runs each request on a new virtual thread and ignores " +
+            "'asyncThreadPoolSize'. 'virtual' requires Java 21 or newer.")
+    public void setAsyncExecutor(AsyncExecutorType asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Sets the type of the async thread pool queue: 'linked', 'array' or 'synchronous'. Only applies " +
+            "when 'asyncThreadPoolSize' is positive. The default is an unbounded 'linked' queue.")
+    public void setAsyncQueueType(AsyncQueueType asyncQueueType) {
+        this.asyncQueueType = asyncQueueType;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Sets the capacity of the async thread pool queue. Required for the 'array' queue. The default " +
+            "(0) means no limit for the 'linked' queue.")
+    public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Sets how long idle async threads are kept alive. Rounded up to whole seconds. The default is " +
+            "60 seconds.")
+    public void setAsyncKeepAliveMs(long asyncKeepAliveMs) {
+        this.asyncKeepAliveMs = asyncKeepAliveMs;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Sets what happens to async requests when the pool and its queue are full: 'callerRuns', " +
+            "'failFast' or 'block'. If not set, Jersey default applies, which silently drops the request.")
+    public void setAsyncRejectionPolicy(AsyncRejectionPolicy asyncRejectionPolicy) {
+        this.asyncRejectionPolicy = asyncRejectionPolicy;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("For the 'block' rejection policy, sets how long to wait for the queue space before failing " +
+            "the request. The default (0) means waiting indefinitely.")
+    public void setAsyncRejectionTimeoutMs(long asyncRejectionTimeoutMs) {
+        this.asyncRejectionTimeoutMs = asyncRejectionTimeoutMs;
+    }
+
     /**
      * Sets a map of named client trust store factories.
      *
@@ -124,6 +224,55 @@ public class HttpClientFactoryFactory {
         this.compression = compression;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, the clients use Apache HttpClient 5 connector with a pool of reusable connections " +
+            "configured by this object. This replaces the default (or custom) connector. Named targets can override " +
+            "the pool settings.")
+    public void setConnectionPool(ConnectionPoolFactory connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If true, the clients use HTTP/2 connector based on JDK HttpClient, that multiplexes " +
+            "concurrent requests over a single connection per host. Takes precedence over 'connectionPool'. " +
+            "Named targets can override this setting. The default is 'false'.")
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If true, each named target is fully configured once on startup, and the same WebTarget " +
+            "instance is returned from every 'HttpTargets.newTarget(..)' call, avoiding per-call target copies and " +
+            "client runtime creation. Since 'WebTarget.property(..)' and 'WebTarget.register(..)' modify the target " +
+            "in place, the callers must not invoke them on the returned targets. The default is 'false'.")
+    public void setCacheTargets(boolean cacheTargets) {
+        this.cacheTargets = cacheTargets;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, replaces the default request logging with a structured access log that supports " +
+            "sampling and asynchronous output.")
+    public void setAccessLog(AccessLogFactory accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, client requests are subject to this adaptive concurrency limit. Rejected requests " +
+            "throw ConcurrencyLimitExceededException. Named targets can override this setting.")
+    public void setConcurrencyLimit(ConcurrencyLimitFactory concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
     /**
      * Sets a map of named target factories. This allows to define remote endpoints completely via configuration.
      *
@@ -158,10 +307,17 @@ public class HttpClientFactoryFactory {
             }
         });
 
-        return new DefaultHttpClientFactory(
+        DefaultHttpClientFactory factory = new DefaultHttpClientFactory(
                 config,
                 createAuthFilters(injector),
-                createTrustStores());
+                createTrustStores(),
+                connectionPool,
+                http2);
+
+        if (shutdownManager != null) {
+            shutdownManager.onShutdown(factory, DefaultHttpClientFactory::shutdown);
+        }
+        return factory;
     }
 
     protected Map<String, KeyStore> createTrustStores() {
@@ -202,15 +358,114 @@ public class HttpClientFactoryFactory {
 
         configAsyncExecutor(config);
         configRequestLogging(config);
+        configConcurrencyLimits(config);
+        configCircuitBreakers(config);
         return config;
     }
 
     protected void configAsyncExecutor(ClientConfig config) {
-        config.register(ClientAsyncExecutorProvider.class);
+        if (asyncExecutor == AsyncExecutorType.virtual) {
+            config.register(VirtualThreadClientAsyncExecutorProvider.class);
+        } else {
+            bindAsyncPoolSettings(config);
+            config.register(ClientAsyncExecutorProvider.class);
+        }
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected void bindAsyncPoolSettings(ClientConfig config) {
+        ClientAsyncPoolSettings settings = createAsyncPoolSettings();
+        config.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(settings).to(ClientAsyncPoolSettings.class);
+            }
+        });
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected ClientAsyncPoolSettings createAsyncPoolSettings() {
+        return new ClientAsyncPoolSettings(
+                asyncQueueType,
+                asyncQueueCapacity,
+                asyncKeepAliveMs,
+                asyncRejectionPolicy,
+                asyncRejectionTimeoutMs);
     }
 
     protected void configRequestLogging(ClientConfig config) {
-        config.register(new RequestLogger());
+
+        if (accessLog == null) {
+            config.register(new RequestLogger());
+            return;
+        }
+
+        AccessLogger logger = accessLog.createAccessLogger();
+        if (shutdownManager != null) {
+            shutdownManager.onShutdown(logger, AccessLogger::shutdown);
+        }
+        config.register(logger);
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected void configConcurrencyLimits(ClientConfig config) {
+
+        Map<String, AimdLimiter> targetLimiters = new HashMap<>();
+        if (targets != null) {
+            targets.forEach((n, t) -> {
+                AimdLimiter limiter = t.createConcurrencyLimiter();
+                if (limiter != null) {
+                    targetLimiters.put(n, limiter);
+                }
+            });
+        }
+
+        AimdLimiter defaultLimiter = concurrencyLimit != null ? concurrencyLimit.createLimiter() : null;
+
+        if (defaultLimiter != null || !targetLimiters.isEmpty()) {
+            config.register(new ConcurrencyLimitFilter(targetLimiters, defaultLimiter));
+        }
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected void configCircuitBreakers(ClientConfig config) {
+        Map<String, CircuitBreaker> breakers = getCircuitBreakers();
+        if (!breakers.isEmpty()) {
+            config.register(new CircuitBreakerFilter(breakers));
+        }
+    }
+
+    /**
+     * Returns circuit breakers of the named targets keyed by target name. The breakers are created on the first call
+     * and the same instances are returned afterwards, so that their state can be monitored.
+     *
+     * @since 4.0
+     */
+    public synchronized Map<String, CircuitBreaker> getCircuitBreakers() {
+
+        if (circuitBreakers == null) {
+            Map<String, CircuitBreaker> breakers = new HashMap<>();
+            if (targets != null) {
+                targets.forEach((n, t) -> {
+                    CircuitBreaker breaker = t.createCircuitBreaker();
+                    if (breaker != null) {
+                        breakers.put(n, breaker);
+                    }
+                });
+            }
+
+            circuitBreakers = Collections.unmodifiableMap(breakers);
+        }
+
+        return circuitBreakers;
     }
 
     protected Map<String, Supplier<WebTarget>> createNamedTargets(HttpClientFactory clientFactory) {
@@ -219,8 +474,30 @@ public class HttpClientFactoryFactory {
         }
 
         Map<String, Supplier<WebTarget>> suppliers = new HashMap<>();
-        targets.forEach((n, f) -> suppliers.put(n, f.createWebTargetSupplier(clientFactory, compression)));
+        targets.forEach((n, f) -> suppliers.put(n, createWebTargetSupplier(n, f, clientFactory)));
 
         return suppliers;
     }
+
+    /**
+     * @since 4.0
+     */
+    protected Supplier<WebTarget> createWebTargetSupplier(
+            String targetName,
+            WebTargetFactory targetFactory,
+            HttpClientFactory clientFactory) {
+
+        Supplier<WebTarget> unnamed = targetFactory.createWebTargetSupplier(clientFactory, compression);
+
+        // tag the target with its name, so that the filters can tell which downstream a request is sent to
+        Supplier<WebTarget> supplier = () -> unnamed.get().property(HttpTargets.TARGET_NAME_PROPERTY, targetName);
+
+        if (!cacheTargets) {
+            return supplier;
+        }
+
+        // JerseyWebTarget is thread-safe as long as nobody changes its config, so a single instance can be reused
+        WebTarget target = supplier.get();
+        return () -> target;
+    }
 }
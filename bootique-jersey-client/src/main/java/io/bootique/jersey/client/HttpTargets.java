@@ -28,6 +28,14 @@ import java.util.Set;
  */
 public interface HttpTargets {
 
+    /**
+     * A name of the configuration property set on every target produced by {@link #newTarget(String)}, whose value
+     * is the target name. Allows client filters to identify requests sent via named targets.
+     *
+     * @since 4.0
+     */
+    String TARGET_NAME_PROPERTY = "io.bootique.jersey.client.targetName";
+
     /**
      * Returns a new {@link WebTarget} object associated with a named configuration, that can be used to send
      * requests to a given HTTP endpoint. This method allows to delegate HTTP endpoint configuration to the Bootique
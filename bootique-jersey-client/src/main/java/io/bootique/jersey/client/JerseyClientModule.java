@@ -26,6 +26,7 @@ import io.bootique.di.Binder;
 import io.bootique.di.Injector;
 import io.bootique.di.Key;
 import io.bootique.di.Provides;
+import io.bootique.jersey.client.auth.OAuth2TokenCache;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
 import org.glassfish.jersey.client.spi.ConnectorProvider;
 
@@ -79,6 +80,12 @@ public class JerseyClientModule implements BQModule {
         return factoryFactory.createClientFactory();
     }
 
+    @Provides
+    @Singleton
+    OAuth2TokenCache provideOAuth2TokenCache() {
+        return new OAuth2TokenCache();
+    }
+
     @Provides
     @Singleton
     HttpTargets provideTargets(HttpClientFactoryFactory factoryFactory, HttpClientFactory clientFactory) {
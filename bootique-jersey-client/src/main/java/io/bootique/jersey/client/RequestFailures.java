@@ -0,0 +1,83 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Classifies exceptions of the failed client requests by walking their cause chains.
+ *
+ * @since 4.0
+ */
+public final class RequestFailures {
+
+    private RequestFailures() {
+    }
+
+    /**
+     * Returns whether the exception was caused by a connect or read timeout.
+     */
+    public static boolean isTimeout(Throwable th) {
+        return anyCause(th, t -> t instanceof InterruptedIOException
+                || t instanceof HttpTimeoutException
+                || t instanceof TimeoutException);
+    }
+
+    /**
+     * Returns whether the exception was caused by a failure to establish a connection other than a timeout, such as
+     * a refused connection or an unknown host.
+     */
+    public static boolean isConnectFailure(Throwable th) {
+        return anyCause(th, t -> t instanceof ConnectException
+                || t instanceof NoRouteToHostException
+                || t instanceof UnknownHostException);
+    }
+
+    /**
+     * Returns whether any of the exceptions was caused by an I/O error talking to the remote server, as opposed to
+     * a failure within the client itself.
+     */
+    public static boolean isIOFailure(Iterable<Throwable> throwables) {
+        for (Throwable th : throwables) {
+            if (anyCause(th, t -> t instanceof IOException || t instanceof TimeoutException)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean anyCause(Throwable th, Predicate<Throwable> test) {
+        for (Throwable t = th; t != null; t = t.getCause() != t ? t.getCause() : null) {
+            if (test.test(t)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -21,6 +21,10 @@ package io.bootique.jersey.client;
 
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreaker;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreakerFactory;
+import io.bootique.jersey.client.limit.AimdLimiter;
+import io.bootique.jersey.client.limit.ConcurrencyLimitFactory;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.WebTarget;
 import org.glassfish.jersey.client.ClientProperties;
@@ -36,6 +40,9 @@ public class WebTargetFactory {
     private String url;
     private String auth;
     private String trustStore;
+    private ConnectionPoolFactory connectionPool;
+    private ConcurrencyLimitFactory concurrencyLimit;
+    private CircuitBreakerFactory circuitBreaker;
 
     // the next block of vars is overriding the values from the parent client config.
     // so they must use objects instead of primitives to maintain a distinction between "null" and "not set".
@@ -43,6 +50,7 @@ public class WebTargetFactory {
     private Boolean compression;
     private Integer readTimeoutMs;
     private Integer connectTimeoutMs;
+    private Boolean http2;
 
 
     @BQConfigProperty
@@ -80,6 +88,59 @@ public class WebTargetFactory {
         this.trustStore = trustStore;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, the target uses a dedicated connection pool with these settings instead of " +
+            "'jerseyclient.connectionPool'.")
+    public void setConnectionPool(ConnectionPoolFactory connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, overrides 'jerseyclient.http2' - whether the target uses HTTP/2 connector.")
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, requests sent via this target are subject to this adaptive concurrency limit instead " +
+            "of 'jerseyclient.concurrencyLimit'.")
+    public void setConcurrencyLimit(ConcurrencyLimitFactory concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * Returns a new concurrency limiter for this target, or null if the target has no limit configured.
+     *
+     * @since 4.0
+     */
+    public AimdLimiter createConcurrencyLimiter() {
+        return concurrencyLimit != null ? concurrencyLimit.createLimiter() : null;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, requests sent via this target go through a circuit breaker that rejects them " +
+            "with CircuitBreakerOpenException while the target is failing.")
+    public void setCircuitBreaker(CircuitBreakerFactory circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Returns a new circuit breaker for this target, or null if the target has no circuit breaker configured.
+     *
+     * @since 4.0
+     */
+    public CircuitBreaker createCircuitBreaker() {
+        return circuitBreaker != null ? circuitBreaker.createCircuitBreaker() : null;
+    }
+
     // "compression" is not JAX-RS property, so it is hard to tell whether the parent enabled it or not.
     // The solution here is to accept parent compression as an explicit parameter
     public Supplier<WebTarget> createWebTargetSupplier(HttpClientFactory clientFactory, boolean parentCompression) {
@@ -106,7 +167,16 @@ public class WebTargetFactory {
             builder.trustStore(trustStore);
         }
 
-        Client client = builder.build();
+        if (connectionPool != null) {
+            builder.connectionPool(connectionPool);
+        }
+
+        if (http2 != null) {
+            builder.http2(http2);
+        }
+
+        // targets with identical client settings share a single client (and its runtime and connection pool)
+        Client client = builder.buildShared();
 
         return () -> {
             WebTarget target = client.target(localUrl);
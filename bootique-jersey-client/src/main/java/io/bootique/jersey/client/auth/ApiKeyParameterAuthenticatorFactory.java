@@ -25,6 +25,7 @@ import io.bootique.di.Injector;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.core.UriBuilder;
+import org.glassfish.jersey.uri.UriComponent;
 
 import java.net.URI;
 import java.util.Objects;
@@ -57,24 +58,72 @@ public class ApiKeyParameterAuthenticatorFactory implements AuthenticatorFactory
 
     static class ParamAuthenticator implements ClientRequestFilter {
 
-        private String paramName;
-        private String authKey;
+        private final String paramName;
+        private final String authKey;
+
+        // "name=key" encoded once
+        private final String encodedName;
+        private final String encodedParam;
 
         public ParamAuthenticator(String paramName, String apiKey) {
             this.paramName = Objects.requireNonNull(paramName, "Null auth param name");
             this.authKey = Objects.requireNonNull(apiKey, "Null API key");
+
+            this.encodedName = encode(paramName);
+            this.encodedParam = encodedName + "=" + encode(apiKey);
+        }
+
+        // encoding the same way UriBuilder encodes query params, so that the keys are sent the same way regardless of
+        // whether the fast or the slow path is taken. Specifically, "%xx" sequences in the key are preserved
+        private static String encode(String value) {
+            return UriComponent.contextualEncode(value, UriComponent.Type.QUERY_PARAM_SPACE_ENCODED, true);
         }
 
         public void filter(ClientRequestContext requestContext) {
+            requestContext.setUri(rewrite(requestContext.getUri()));
+        }
+
+        // appending the pre-encoded param to the URI string is cheap enough to do on every request, and unlike
+        // caching the rewritten URIs, doesn't retain anything for the apps that generate lots of unique URIs
+        URI rewrite(URI uri) {
+
+            String query = uri.getRawQuery();
+
+            // a rare case of the param already present in the query... Use the slow path to replace it
+            if (query != null && hasParam(query)) {
+                return UriBuilder.fromUri(uri).replaceQueryParam(paramName, authKey).build();
+            }
 
-            URI uri = UriBuilder.fromUri(requestContext.getUri())
-                    // hmmm.. should we complain if "paramName" is already in the query?
-                    .replaceQueryParam(paramName, authKey)
-                    .build();
+            String uriString = uri.toString();
+            String fragment = uri.getRawFragment();
+            int insertAt = fragment != null ? uriString.length() - fragment.length() - 1 : uriString.length();
 
-            requestContext.setUri(uri);
+            String separator = query == null ? "?" : query.isEmpty() ? "" : "&";
+
+            StringBuilder out = new StringBuilder(uriString.length() + separator.length() + encodedParam.length());
+            out.append(uriString, 0, insertAt).append(separator).append(encodedParam).append(uriString, insertAt, uriString.length());
+            return URI.create(out.toString());
         }
 
+        private boolean hasParam(String query) {
+
+            int len = encodedName.length();
+            int from = 0;
+            while (from <= query.length()) {
+                int end = query.indexOf('&', from);
+                if (end < 0) {
+                    end = query.length();
+                }
+
+                if (end - from >= len && query.startsWith(encodedName, from)
+                        && (end - from == len || query.charAt(from + len) == '=')) {
+                    return true;
+                }
+
+                from = end + 1;
+            }
+
+            return false;
+        }
     }
 }
-
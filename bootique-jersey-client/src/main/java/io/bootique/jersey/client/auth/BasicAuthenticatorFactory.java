@@ -26,10 +26,10 @@ import io.bootique.di.Injector;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.core.MultivaluedMap;
-import jakarta.xml.bind.DatatypeConverter;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Objects;
 
 @JsonTypeName("basic")
@@ -67,7 +67,8 @@ public class BasicAuthenticatorFactory implements AuthenticatorFactory {
 
 	static class BasicAuthenticator implements ClientRequestFilter {
 
-		private String basicAuth;
+		// encoded once, as the credentials never change
+		private final String basicAuth;
 
 		public BasicAuthenticator(String username, String password) {
 			this.basicAuth = createBasicAuth(username, password);
@@ -80,11 +81,7 @@ public class BasicAuthenticatorFactory implements AuthenticatorFactory {
 
 		static String createBasicAuth(String username, String password) {
 			String token = username + ":" + password;
-			try {
-				return "Basic " + DatatypeConverter.printBase64Binary(token.getBytes("UTF-8"));
-			} catch (UnsupportedEncodingException ex) {
-				throw new IllegalStateException("Cannot encode with UTF-8", ex);
-			}
+			return "Basic " + Base64.getEncoder().encodeToString(token.getBytes(StandardCharsets.UTF_8));
 		}
 	}
 }
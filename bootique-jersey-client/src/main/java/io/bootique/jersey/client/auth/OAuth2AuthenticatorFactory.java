@@ -23,14 +23,20 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 import io.bootique.di.Injector;
+import io.bootique.di.Key;
 import io.bootique.jersey.client.HttpClientBuilder;
 import io.bootique.jersey.client.HttpClientFactory;
+import io.bootique.jersey.client.limit.ConcurrencyLimitFilter;
+import io.bootique.shutdown.ShutdownManager;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.WebTarget;
-import org.glassfish.jersey.jackson.JacksonFeature;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
 @JsonTypeName("oauth2")
@@ -43,9 +49,14 @@ public class OAuth2AuthenticatorFactory implements AuthenticatorFactory {
     protected String username;
     protected String password;
     protected Duration expiresIn;
+    protected String scope;
+    protected String tokenCacheFile;
+    protected Double refreshAt;
+    protected Duration refreshRetryDelay;
 
     public OAuth2AuthenticatorFactory() {
         this.expiresIn = Duration.ofHours(1);
+        this.refreshRetryDelay = Duration.ofSeconds(1);
     }
 
     public String getUsername() {
@@ -89,10 +100,75 @@ public class OAuth2AuthenticatorFactory implements AuthenticatorFactory {
         this.expiresIn = expiresIn;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("An optional OAuth2 scope to request the token for.")
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("An optional path of a local file to persist the token, so that it can be reused after the " +
+            "app restart instead of requesting a new one. The file contains a secret and should be protected " +
+            "accordingly.")
+    public void setTokenCacheFile(String tokenCacheFile) {
+        this.tokenCacheFile = tokenCacheFile;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("If set, the token is refreshed in background once this fraction of its lifetime has passed " +
+            "(e.g. 0.8 means refresh at 80% of the lifetime). Requests keep using the old token until the new one " +
+            "is obtained. Must be between 0 and 1. If not set, the token is refreshed by the request thread " +
+            "right before the expiration.")
+    public void setRefreshAt(double refreshAt) {
+        this.refreshAt = refreshAt;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Initial delay before retrying a failed background token refresh. Doubled on each subsequent " +
+            "failure up to 60 seconds. The default is 1 second.")
+    public void setRefreshRetryDelay(Duration refreshRetryDelay) {
+        this.refreshRetryDelay = refreshRetryDelay;
+    }
+
     @Override
     public ClientRequestFilter createAuthFilter(Injector injector) {
         OAuth2TokenDAO tokenDAO = createOAuth2TokenDAO(injector);
-        return new OAuth2TokenAuthenticator(OAuth2Token.expiredToken(), tokenDAO);
+
+        if (refreshAt == null) {
+            return new OAuth2TokenAuthenticator(OAuth2Token.expiredToken(), tokenDAO);
+        }
+
+        if (refreshAt <= 0. || refreshAt >= 1.) {
+            throw new IllegalArgumentException("OAuth2 'refreshAt' must be between 0 and 1: " + refreshAt);
+        }
+
+        Objects.requireNonNull(refreshRetryDelay, "OAuth2 'refreshRetryDelay' is not specified");
+
+        return new OAuth2TokenAuthenticator(
+                OAuth2Token.expiredToken(),
+                tokenDAO,
+                createRefreshScheduler(injector),
+                refreshAt,
+                refreshRetryDelay);
+    }
+
+    protected ScheduledExecutorService createRefreshScheduler(Injector injector) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bootique-http-client-oauth2-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+
+        injector.getInstance(ShutdownManager.class).onShutdown(scheduler, ExecutorService::shutdownNow);
+        return scheduler;
     }
 
     protected OAuth2TokenDAO createOAuth2TokenDAO(Injector injector) {
@@ -102,7 +178,22 @@ public class OAuth2AuthenticatorFactory implements AuthenticatorFactory {
 
         // defer initialization until HttpClientFactory becomes available.
         Function<String, WebTarget> tokenTargetFactory = tokenUrl -> tokenTarget(tokenUrl, injector);
-        return new OAuth2TokenDAO(tokenTargetFactory, tokenUrl, username, password, expiresIn);
+        return new OAuth2TokenDAO(
+                tokenTargetFactory,
+                tokenUrl,
+                username,
+                password,
+                scope,
+                expiresIn,
+                tokenCache(injector),
+                tokenCacheFile != null ? Path.of(tokenCacheFile) : null);
+    }
+
+    protected OAuth2TokenCache tokenCache(Injector injector) {
+
+        // the cache is bound by JerseyClientModule, but the factory may be used outside a Bootique app
+        Key<OAuth2TokenCache> key = Key.get(OAuth2TokenCache.class);
+        return injector.hasProvider(key) ? injector.getInstance(key) : null;
     }
 
     protected WebTarget tokenTarget(String tokenUrl, Injector injector) {
@@ -112,6 +203,12 @@ public class OAuth2AuthenticatorFactory implements AuthenticatorFactory {
             builder = builder.trustStore(tokenTrustStore);
         }
 
-        return builder.build().register(JacksonFeature.class).target(tokenUrl);
+        // a shared client is thread-safe and is closed by the factory on shutdown. No need for the JSON feature,
+        // as the token response is parsed by OAuth2TokenDAO directly. Token requests are made from within the
+        // auth filter of a request that may already hold a concurrency limit permit, so they must bypass the limit
+        // to avoid waiting on themselves
+        return builder.buildShared()
+                .target(tokenUrl)
+                .property(ConcurrencyLimitFilter.BYPASS_PROPERTY, true);
     }
 }
@@ -29,10 +29,19 @@ public class OAuth2Token {
 
     private String accessToken;
     private LocalDateTime refreshAfter;
+    private LocalDateTime expiresOn;
 
     protected OAuth2Token(String accessToken, LocalDateTime refreshAfter) {
+        this(accessToken, refreshAfter, refreshAfter);
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected OAuth2Token(String accessToken, LocalDateTime refreshAfter, LocalDateTime expiresOn) {
         this.accessToken = accessToken;
         this.refreshAfter = refreshAfter;
+        this.expiresOn = expiresOn;
     }
 
     /**
@@ -41,7 +50,8 @@ public class OAuth2Token {
      * @return a token that can be used as an initial placeholder for authenticator.
      */
     public static OAuth2Token expiredToken() {
-        return new OAuth2Token("*placeholder_token*", LocalDateTime.of(1970, 1, 1, 0, 0, 0));
+        LocalDateTime epoch = LocalDateTime.of(1970, 1, 1, 0, 0, 0);
+        return new OAuth2Token("*placeholder_token*", epoch, epoch);
     }
 
     public static OAuth2Token token(String accessToken, LocalDateTime expiresOn) {
@@ -53,7 +63,7 @@ public class OAuth2Token {
         // the same token returned from the server (?) so this may be a dubious optimization...
         // TODO: Need to test with common oauth servers (Google, FB, GitHub), and maybe make configurable as "refreshDrift"  or something.
         LocalDateTime refreshAfter = Objects.requireNonNull(expiresOn).minusSeconds(2);
-        return new OAuth2Token(accessToken, refreshAfter);
+        return new OAuth2Token(accessToken, refreshAfter, expiresOn);
     }
 
     public String getAccessToken() {
@@ -67,4 +77,11 @@ public class OAuth2Token {
     public LocalDateTime getRefreshAfter() {
         return refreshAfter;
     }
+
+    /**
+     * @since 4.0
+     */
+    public LocalDateTime getExpiresOn() {
+        return expiresOn;
+    }
 }
@@ -22,15 +22,59 @@ package io.bootique.jersey.client.auth;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.core.MultivaluedMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 class OAuth2TokenAuthenticator implements ClientRequestFilter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(OAuth2TokenAuthenticator.class);
+
+    static final Duration MAX_REFRESH_RETRY_DELAY = Duration.ofSeconds(60);
+
     private OAuth2TokenDAO tokenDAO;
     private volatile OAuth2Token lastToken;
 
+    // using an explicit lock instead of "synchronized", as the token is fetched over the network while holding it, and
+    // the requests may run on virtual threads
+    private final ReentrantLock lock;
+
+    // background refresh settings. If the scheduler is null, the token is refreshed on the request thread
+    private final ScheduledExecutorService refreshScheduler;
+    private final double refreshAt;
+    private final Duration refreshRetryDelay;
+    private ScheduledFuture<?> pendingRefresh;
+
     public OAuth2TokenAuthenticator(OAuth2Token initialToken, OAuth2TokenDAO tokenDAO) {
+        this(initialToken, tokenDAO, null, 0., null);
+    }
+
+    /**
+     * Creates an authenticator that refreshes the token in background after the "refreshAt" fraction of its lifetime
+     * has passed. Requests keep using the previous token until it expires or until the new token replaces it.
+     *
+     * @since 4.0
+     */
+    public OAuth2TokenAuthenticator(
+            OAuth2Token initialToken,
+            OAuth2TokenDAO tokenDAO,
+            ScheduledExecutorService refreshScheduler,
+            double refreshAt,
+            Duration refreshRetryDelay) {
+
         this.tokenDAO = tokenDAO;
         this.lastToken = initialToken;
+        this.lock = new ReentrantLock();
+        this.refreshScheduler = refreshScheduler;
+        this.refreshAt = refreshAt;
+        this.refreshRetryDelay = refreshRetryDelay;
     }
 
     static String createAuthHeader(String token) {
@@ -44,14 +88,81 @@ class OAuth2TokenAuthenticator implements ClientRequestFilter {
 
     protected String getAuthorization() {
 
-        if (lastToken.needsRefresh()) {
-            synchronized (this) {
-                if (lastToken.needsRefresh()) {
-                    lastToken = tokenDAO.getToken();
+        // with background refresh on, a token is only refreshed on the request thread if the background refresh
+        // didn't happen in time (e.g. on the first request or after repeated refresh failures). Either way, the token
+        // is replaced with the same safety margin before its expiration, so that it doesn't expire in transit
+        OAuth2Token token = lastToken;
+        if (token.needsRefresh()) {
+            lock.lock();
+            try {
+                token = lastToken;
+                if (token.needsRefresh()) {
+                    token = tokenDAO.getToken();
+                    publish(token);
                 }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return createAuthHeader(token.getAccessToken());
+    }
+
+    // must be called while holding the lock
+    private void publish(OAuth2Token token) {
+        lastToken = token;
+
+        if (refreshScheduler != null) {
+            long lifetimeMs = Duration.between(LocalDateTime.now(), token.getExpiresOn()).toMillis();
+            scheduleRefresh(Math.max(0L, (long) (lifetimeMs * refreshAt)), refreshRetryDelay);
+        }
+    }
+
+    // must be called while holding the lock
+    private void scheduleRefresh(long delayMs, Duration retryDelay) {
+
+        if (pendingRefresh != null) {
+            pendingRefresh.cancel(false);
+        }
+
+        try {
+            pendingRefresh = refreshScheduler.schedule(() -> backgroundRefresh(retryDelay), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the scheduler is shut down. Requests will refresh the token on their own if they need to
+            pendingRefresh = null;
+        }
+    }
+
+    private void backgroundRefresh(Duration retryDelay) {
+
+        // fetching the token without holding the lock, so that the requests can still use the current token
+        OAuth2Token token;
+        try {
+            token = tokenDAO.getToken();
+        } catch (RuntimeException e) {
+
+            Duration nextRetryDelay = retryDelay.multipliedBy(2);
+            if (nextRetryDelay.compareTo(MAX_REFRESH_RETRY_DELAY) > 0) {
+                nextRetryDelay = MAX_REFRESH_RETRY_DELAY;
             }
+
+            LOGGER.warn("Failed to refresh OAuth2 token, will retry in {} ms", retryDelay.toMillis(), e);
+
+            lock.lock();
+            try {
+                scheduleRefresh(retryDelay.toMillis(), nextRetryDelay);
+            } finally {
+                lock.unlock();
+            }
+
+            return;
         }
 
-        return createAuthHeader(lastToken.getAccessToken());
+        lock.lock();
+        try {
+            publish(token);
+        } finally {
+            lock.unlock();
+        }
     }
 }
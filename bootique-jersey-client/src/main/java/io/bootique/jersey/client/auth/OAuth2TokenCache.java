@@ -0,0 +1,137 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.auth;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * An app-wide cache of OAuth2 tokens shared by all OAuth2 authenticators. Tokens are keyed by the token URL, username
+ * and scope. Concurrent requests for a missing or stale token result in a single call to the token server.
+ *
+ * @since 4.0
+ */
+public class OAuth2TokenCache {
+
+    private final ConcurrentMap<CacheKey, Entry> entries;
+
+    public OAuth2TokenCache() {
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a cached token for the key if it is still fresh and is not the same as the "previous" token of the
+     * caller. Otherwise, obtains a new token from the "fetcher". Only one fetch per key may run at any given time.
+     *
+     * @param previous the token that the caller already has (and wants to replace), or null.
+     */
+    public OAuth2Token getToken(
+            String tokenUrl,
+            String username,
+            String scope,
+            OAuth2Token previous,
+            Supplier<OAuth2Token> fetcher) {
+
+        Entry entry = entries.computeIfAbsent(new CacheKey(tokenUrl, username, scope), k -> new Entry());
+
+        OAuth2Token token = entry.token;
+        if (isUsable(token, previous)) {
+            return token;
+        }
+
+        entry.lock.lock();
+        try {
+            token = entry.token;
+            if (isUsable(token, previous)) {
+                return token;
+            }
+
+            token = fetcher.get();
+            entry.token = token;
+            return token;
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a token obtained elsewhere (e.g. loaded from a file), unless the cache already has one for the key.
+     */
+    public void putIfAbsent(String tokenUrl, String username, String scope, OAuth2Token token) {
+        Entry entry = entries.computeIfAbsent(new CacheKey(tokenUrl, username, scope), k -> new Entry());
+        entry.lock.lock();
+        try {
+            if (entry.token == null) {
+                entry.token = token;
+            }
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    private static boolean isUsable(OAuth2Token token, OAuth2Token previous) {
+        return token != null && token != previous && !token.needsRefresh();
+    }
+
+    static final class Entry {
+
+        // using an explicit lock instead of "synchronized", as the token is fetched over the network while holding it,
+        // and the callers may run on virtual threads
+        final ReentrantLock lock = new ReentrantLock();
+        volatile OAuth2Token token;
+    }
+
+    static final class CacheKey {
+
+        private final String tokenUrl;
+        private final String username;
+        private final String scope;
+
+        CacheKey(String tokenUrl, String username, String scope) {
+            this.tokenUrl = tokenUrl;
+            this.username = username;
+            this.scope = scope;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+
+            CacheKey that = (CacheKey) o;
+            return tokenUrl.equals(that.tokenUrl)
+                    && username.equals(that.username)
+                    && Objects.equals(scope, that.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tokenUrl, username, scope);
+        }
+    }
+}
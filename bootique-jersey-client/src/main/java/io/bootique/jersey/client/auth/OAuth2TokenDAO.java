@@ -19,48 +19,133 @@
 
 package io.bootique.jersey.client.auth;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import jakarta.xml.bind.annotation.XmlAttribute;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Objects;
 import java.util.function.Function;
 
 public class OAuth2TokenDAO {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OAuth2TokenDAO.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     protected String tokenUrl;
     protected String username;
     protected String password;
     protected Duration expiresIn;
+    protected String scope;
 
     protected Function<String, WebTarget> tokenTargetFactory;
     protected volatile WebTarget tokenTarget;
 
+    // optional shared cache and persistent storage of tokens
+    private final OAuth2TokenCache tokenCache;
+    private final OAuth2TokenFileStore tokenFileStore;
+    private volatile OAuth2Token lastToken;
+    private volatile boolean tokenFileLoaded;
+
+    // encoded once, as the credentials never change
+    private final String basicAuth;
+
     public OAuth2TokenDAO(
             Function<String, WebTarget> tokenTargetFactory,
             String tokenUrl,
             String username,
             String password,
             Duration expiresIn) {
+        this(tokenTargetFactory, tokenUrl, username, password, null, expiresIn, null, null);
+    }
+
+    /**
+     * @param scope          an optional OAuth2 scope of the requested token.
+     * @param tokenCache     an optional cache that allows to share tokens with other authenticators.
+     * @param tokenCacheFile an optional file to persist the token between app restarts.
+     * @since 4.0
+     */
+    public OAuth2TokenDAO(
+            Function<String, WebTarget> tokenTargetFactory,
+            String tokenUrl,
+            String username,
+            String password,
+            String scope,
+            Duration expiresIn,
+            OAuth2TokenCache tokenCache,
+            Path tokenCacheFile) {
 
         this.tokenTargetFactory = tokenTargetFactory;
         this.tokenUrl = tokenUrl;
         this.username = username;
         this.password = password;
+        this.scope = scope;
         this.expiresIn = expiresIn;
+        this.basicAuth = BasicAuthenticatorFactory.BasicAuthenticator.createBasicAuth(username, password);
+        this.tokenCache = tokenCache;
+        this.tokenFileStore = tokenCacheFile != null
+                ? new OAuth2TokenFileStore(tokenCacheFile, tokenUrl, username, scope)
+                : null;
     }
 
     public OAuth2Token getToken() {
 
+        OAuth2Token previous = lastToken;
+
+        if (!tokenFileLoaded) {
+            tokenFileLoaded = true;
+            OAuth2Token saved = loadSavedToken();
+            if (saved != null) {
+                lastToken = saved;
+                return saved;
+            }
+        }
+
+        OAuth2Token token = tokenCache != null
+                ? tokenCache.getToken(tokenUrl, username, scope, previous, this::fetchToken)
+                : fetchToken();
+
+        lastToken = token;
+        return token;
+    }
+
+    private OAuth2Token loadSavedToken() {
+
+        if (tokenFileStore == null) {
+            return null;
+        }
+
+        OAuth2Token saved = tokenFileStore.load();
+        if (saved == null || saved.needsRefresh()) {
+            return null;
+        }
+
+        LOGGER.info("Loaded OAuth2 token from file. Expires at {}", saved.getRefreshAfter());
+        if (tokenCache != null) {
+            tokenCache.putIfAbsent(tokenUrl, username, scope, saved);
+        }
+
+        return saved;
+    }
+
+    /**
+     * Requests a new token from the server, bypassing the token cache.
+     *
+     * @since 4.0
+     */
+    protected OAuth2Token fetchToken() {
+
         // per https://tools.ietf.org/html/rfc6749#section-6  "client_credentials" grant should just reauthenticate
         // and not attempt to use a refresh token.
 
@@ -69,6 +154,11 @@ public class OAuth2TokenDAO {
         try {
             OAuth2Token token = readToken(tokenResponse);
             LOGGER.info("Successfully obtained OAuth2 token. Expires at {}", token.getRefreshAfter());
+
+            if (tokenFileStore != null) {
+                tokenFileStore.save(token);
+            }
+
             return token;
         } finally {
             tokenResponse.close();
@@ -81,20 +171,26 @@ public class OAuth2TokenDAO {
 
         LOGGER.info("reading OAuth2 token from " + tokenUrl);
 
-        Entity<String> postEntity = Entity
-                .entity("grant_type=client_credentials", MediaType.APPLICATION_FORM_URLENCODED_TYPE);
+        String form = scope != null
+                ? "grant_type=client_credentials&scope=" + URLEncoder.encode(scope, StandardCharsets.UTF_8)
+                : "grant_type=client_credentials";
+
+        Entity<String> postEntity = Entity.entity(form, MediaType.APPLICATION_FORM_URLENCODED_TYPE);
 
         return getTokenTarget()
                 .request()
-                .header("Authorization", BasicAuthenticatorFactory.BasicAuthenticator.createBasicAuth(username, password))
+                .header("Authorization", basicAuth)
                 .post(postEntity);
     }
 
     protected WebTarget getTokenTarget() {
 
-        // not concerned about concurrent access and potential multiple instances creation...
         if (tokenTarget == null) {
-            tokenTarget = tokenTargetFactory.apply(tokenUrl);
+            synchronized (this) {
+                if (tokenTarget == null) {
+                    tokenTarget = tokenTargetFactory.apply(tokenUrl);
+                }
+            }
         }
 
         return tokenTarget;
@@ -108,20 +204,50 @@ public class OAuth2TokenDAO {
             throw new RuntimeException(message);
         }
 
-        TokenDTO token = response.readEntity(TokenDTO.class);
-        Objects.requireNonNull(token);
+        TokenDTO token = parseToken(response.readEntity(InputStream.class));
 
         LocalDateTime expiresOn = LocalDateTime.now().plus(token.getDuration(expiresIn));
         return OAuth2Token.token(token.accessToken, expiresOn);
     }
 
-    @JsonIgnoreProperties(ignoreUnknown = true)
+    // reading the two properties we need with a streaming parser is much cheaper than going through a JSON provider
+    static TokenDTO parseToken(InputStream in) {
+
+        TokenDTO token = new TokenDTO();
+
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new RuntimeException("Error reading token: expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (name) {
+                    case "access_token":
+                        token.accessToken = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                        break;
+                    case "expires_in":
+                        // some servers send it as a string
+                        token.expiresIn = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading token", e);
+        }
+
+        return token;
+    }
+
     public static class TokenDTO {
 
-        @XmlAttribute(name = "access_token")
         String accessToken;
-
-        @XmlAttribute(name = "expires_in")
         Integer expiresIn;
 
         Duration getDuration(Duration defaultTokenDuration) {
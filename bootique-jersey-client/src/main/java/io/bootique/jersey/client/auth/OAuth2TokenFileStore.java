@@ -0,0 +1,152 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Persists an OAuth2 token in a local properties file, so that it survives app restarts. Since the file contains
+ * a secret, it is only readable by the owner on the systems that support POSIX permissions.
+ *
+ * @since 4.0
+ */
+class OAuth2TokenFileStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OAuth2TokenFileStore.class);
+
+    private static final String TOKEN_URL = "tokenUrl";
+    private static final String USERNAME = "username";
+    private static final String SCOPE = "scope";
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String REFRESH_AFTER = "refreshAfter";
+    private static final String EXPIRES_ON = "expiresOn";
+
+    private final Path file;
+    private final String tokenUrl;
+    private final String username;
+    private final String scope;
+
+    OAuth2TokenFileStore(Path file, String tokenUrl, String username, String scope) {
+        this.file = file;
+        this.tokenUrl = tokenUrl;
+        this.username = username;
+        this.scope = scope;
+    }
+
+    /**
+     * Returns a token saved in the file, or null if the file is missing, unreadable or contains a token for different
+     * credentials.
+     */
+    OAuth2Token load() {
+
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        Properties props = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(in);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read OAuth2 token file {}", file, e);
+            return null;
+        }
+
+        if (!tokenUrl.equals(props.getProperty(TOKEN_URL))
+                || !username.equals(props.getProperty(USERNAME))
+                || !Objects.equals(scope, props.getProperty(SCOPE))) {
+            return null;
+        }
+
+        String accessToken = props.getProperty(ACCESS_TOKEN);
+        String refreshAfter = props.getProperty(REFRESH_AFTER);
+        String expiresOn = props.getProperty(EXPIRES_ON);
+        if (accessToken == null || refreshAfter == null || expiresOn == null) {
+            return null;
+        }
+
+        try {
+            return new OAuth2Token(accessToken, LocalDateTime.parse(refreshAfter), LocalDateTime.parse(expiresOn));
+        } catch (DateTimeParseException e) {
+            LOGGER.warn("Invalid OAuth2 token file {}", file, e);
+            return null;
+        }
+    }
+
+    void save(OAuth2Token token) {
+
+        Properties props = new Properties();
+        props.setProperty(TOKEN_URL, tokenUrl);
+        props.setProperty(USERNAME, username);
+        if (scope != null) {
+            props.setProperty(SCOPE, scope);
+        }
+        props.setProperty(ACCESS_TOKEN, token.getAccessToken());
+        props.setProperty(REFRESH_AFTER, token.getRefreshAfter().toString());
+        props.setProperty(EXPIRES_ON, token.getExpiresOn().toString());
+
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+
+            // write to a temp file and move it in place, so that a crash can't leave a partially written file
+            Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try {
+                restrictPermissions(tmp);
+                try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    props.store(out, null);
+                }
+
+                try {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // not fatal, the token is still cached in memory
+            LOGGER.warn("Failed to save OAuth2 token file {}", file, e);
+        }
+    }
+
+    private static void restrictPermissions(Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // non-POSIX file system
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.circuitbreaker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A circuit breaker that tracks the outcomes of the last N requests to a target. When the share of failed (or slow)
+ * requests reaches a threshold, the breaker opens and rejects all requests. After a configured delay it lets a few
+ * trial requests through, closing if they all succeed, and reopening on the first failure.
+ *
+ * @since 4.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * A value returned from {@link #tryAcquire()} when the request is not allowed.
+     */
+    public static final long REJECTED = -1L;
+
+    private final double failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final int minCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    // a ring buffer of the last outcomes, "true" meaning a failure
+    private final boolean[] window;
+    private int windowPos;
+    private int windowCount;
+    private int windowFailures;
+
+    private CircuitBreakerState state;
+    private long stateChangedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    // incremented on every state change, so that the outcomes of the requests let through in an earlier state are
+    // not mistaken for the outcomes of the current one
+    private long generation;
+
+    public CircuitBreaker(
+            double failureRateThreshold,
+            long slowCallThresholdMs,
+            int windowSize,
+            int minCalls,
+            long openDurationMs,
+            int halfOpenCalls) {
+        this(failureRateThreshold, slowCallThresholdMs, windowSize, minCalls, openDurationMs, halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(
+            double failureRateThreshold,
+            long slowCallThresholdMs,
+            int windowSize,
+            int minCalls,
+            long openDurationMs,
+            int halfOpenCalls,
+            LongSupplier clock) {
+
+        if (failureRateThreshold <= 0. || failureRateThreshold > 1.) {
+            throw new IllegalArgumentException("'failureRateThreshold' must be above 0 and not exceed 1: " + failureRateThreshold);
+        }
+
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("'windowSize' must be positive: " + windowSize);
+        }
+
+        if (halfOpenCalls < 1) {
+            throw new IllegalArgumentException("'halfOpenCalls' must be positive: " + halfOpenCalls);
+        }
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowCallThresholdMs);
+        this.minCalls = Math.max(1, Math.min(minCalls, windowSize));
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+
+        this.window = new boolean[windowSize];
+        this.state = CircuitBreakerState.CLOSED;
+        this.stateChangedAt = clock.getAsLong();
+    }
+
+    /**
+     * Checks whether a request may be sent. If the request is allowed, returns a non-negative permit that the caller
+     * must pass to {@link #onResult(long, long, boolean)} or {@link #onCancel(long)} when the request is done.
+     *
+     * @return a permit for the request or {@link #REJECTED}.
+     */
+    public synchronized long tryAcquire() {
+
+        switch (state) {
+            case CLOSED:
+                return generation;
+
+            case OPEN:
+                if (clock.getAsLong() - stateChangedAt < openDurationNanos) {
+                    return REJECTED;
+                }
+
+                changeState(CircuitBreakerState.HALF_OPEN);
+                trialsStarted = 1;
+                return generation;
+
+            case HALF_OPEN:
+                // if the trial outcomes were lost (e.g. the requests were never completed), start a new round
+                if (trialsStarted >= halfOpenCalls && clock.getAsLong() - stateChangedAt >= openDurationNanos) {
+                    changeState(CircuitBreakerState.HALF_OPEN);
+                }
+
+                if (trialsStarted < halfOpenCalls) {
+                    trialsStarted++;
+                    return generation;
+                }
+
+                return REJECTED;
+
+            default:
+                throw new IllegalStateException("Unexpected state: " + state);
+        }
+    }
+
+    /**
+     * Records an outcome of a request allowed by {@link #tryAcquire()}. Outcomes of the requests allowed before the
+     * last state change are ignored.
+     *
+     * @param permit       a permit returned by {@link #tryAcquire()}
+     * @param latencyNanos request latency
+     * @param failed       whether the request failed. Requests slower than "slowCallThresholdMs" are counted as
+     *                     failed regardless of this flag.
+     */
+    public synchronized void onResult(long permit, long latencyNanos, boolean failed) {
+
+        if (permit != generation) {
+            return;
+        }
+
+        boolean failure = failed || (slowCallThresholdNanos > 0 && latencyNanos > slowCallThresholdNanos);
+
+        switch (state) {
+            case CLOSED:
+                record(failure);
+                if (windowCount >= minCalls && windowFailures >= failureRateThreshold * windowCount) {
+                    changeState(CircuitBreakerState.OPEN);
+                }
+                break;
+
+            case HALF_OPEN:
+                if (failure) {
+                    changeState(CircuitBreakerState.OPEN);
+                } else if (++trialsSucceeded >= halfOpenCalls) {
+                    changeState(CircuitBreakerState.CLOSED);
+                }
+                break;
+
+            default:
+                // no requests are allowed in the open state
+                break;
+        }
+    }
+
+    /**
+     * Reports that a request allowed by {@link #tryAcquire()} was never sent, so its outcome says nothing about the
+     * target.
+     */
+    public synchronized void onCancel(long permit) {
+        if (permit == generation && state == CircuitBreakerState.HALF_OPEN && trialsStarted > 0) {
+            trialsStarted--;
+        }
+    }
+
+    public synchronized CircuitBreakerState getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+
+        if (windowCount == window.length) {
+            if (window[windowPos]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+
+        window[windowPos] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+
+        windowPos = (windowPos + 1) % window.length;
+    }
+
+    private void changeState(CircuitBreakerState newState) {
+        state = newState;
+        generation++;
+        stateChangedAt = clock.getAsLong();
+        trialsStarted = 0;
+        trialsSucceeded = 0;
+
+        if (newState == CircuitBreakerState.CLOSED) {
+            windowPos = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.circuitbreaker;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+
+/**
+ * Configures a circuit breaker of a named target.
+ *
+ * @since 4.0
+ */
+@BQConfig("Circuit breaker of a named target")
+public class CircuitBreakerFactory {
+
+    private double failureRateThreshold;
+    private long slowCallThresholdMs;
+    private int windowSize;
+    private int minCalls;
+    private long openDurationMs;
+    private int halfOpenCalls;
+
+    public CircuitBreakerFactory() {
+        this.failureRateThreshold = 0.5;
+        this.windowSize = 20;
+        this.minCalls = 10;
+        this.openDurationMs = 30_000;
+        this.halfOpenCalls = 3;
+    }
+
+    @BQConfigProperty("A share (0..1] of failed requests in the window that opens the breaker. Failed requests are " +
+            "those that got no response or a 5xx response. The default is 0.5.")
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    @BQConfigProperty("If set, requests slower than this value are counted as failed. The default (0) disables this " +
+            "check.")
+    public void setSlowCallThresholdMs(long slowCallThresholdMs) {
+        this.slowCallThresholdMs = slowCallThresholdMs;
+    }
+
+    @BQConfigProperty("The number of the most recent requests used to calculate the failure rate. The default is 20.")
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    @BQConfigProperty("The minimal number of requests in the window before the breaker can open. The default is 10.")
+    public void setMinCalls(int minCalls) {
+        this.minCalls = minCalls;
+    }
+
+    @BQConfigProperty("How long the breaker stays open before letting trial requests through. The default is 30000 ms.")
+    public void setOpenDurationMs(long openDurationMs) {
+        this.openDurationMs = openDurationMs;
+    }
+
+    @BQConfigProperty("The number of trial requests in the half-open state. The breaker closes if all of them " +
+            "succeed. The default is 3.")
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public CircuitBreaker createCircuitBreaker() {
+        return new CircuitBreaker(
+                failureRateThreshold,
+                slowCallThresholdMs,
+                windowSize,
+                minCalls,
+                openDurationMs,
+                halfOpenCalls);
+    }
+}
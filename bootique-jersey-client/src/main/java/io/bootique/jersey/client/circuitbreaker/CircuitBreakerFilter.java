@@ -0,0 +1,122 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.circuitbreaker;
+
+import io.bootique.jersey.client.HttpTargets;
+import io.bootique.jersey.client.RequestFailures;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import org.glassfish.jersey.client.spi.PostInvocationInterceptor;
+
+import java.util.Map;
+
+/**
+ * Applies circuit breakers to the requests sent via named targets.
+ *
+ * @since 4.0
+ */
+// running before the concurrency limiter, so that the requests rejected by an open breaker do not take permits
+@Priority(40)
+public class CircuitBreakerFilter implements ClientRequestFilter, ClientResponseFilter, PostInvocationInterceptor {
+
+    private static final String BREAKER_PROPERTY = CircuitBreakerFilter.class.getName() + ".breaker";
+    private static final String PERMIT_PROPERTY = CircuitBreakerFilter.class.getName() + ".permit";
+    private static final String START_PROPERTY = CircuitBreakerFilter.class.getName() + ".start";
+
+    private final Map<String, CircuitBreaker> breakers;
+
+    public CircuitBreakerFilter(Map<String, CircuitBreaker> breakers) {
+        this.breakers = breakers;
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+
+        Object target = requestContext.getConfiguration().getProperty(HttpTargets.TARGET_NAME_PROPERTY);
+        CircuitBreaker breaker = target != null ? breakers.get(target.toString()) : null;
+        if (breaker == null) {
+            return;
+        }
+
+        long permit = breaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            throw new CircuitBreakerOpenException("Circuit breaker is open for target '" + target + "'");
+        }
+
+        requestContext.setProperty(BREAKER_PROPERTY, breaker);
+        requestContext.setProperty(PERMIT_PROPERTY, permit);
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        onResult(requestContext, responseContext.getStatus() >= 500);
+    }
+
+    @Override
+    public void afterRequest(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        // the outcome is recorded in the response filter
+    }
+
+    @Override
+    public void onException(ClientRequestContext requestContext, ExceptionContext exceptionContext) {
+        CircuitBreaker breaker = takeBreaker(requestContext);
+
+        // a no-op if the request was not let through or was already recorded in the response filter
+        if (breaker == null) {
+            return;
+        }
+
+        // only the I/O errors say something about the target. Failures within the client (e.g. rejections by the
+        // concurrency limiter, auth or serialization errors) must not trip the breaker
+        if (RequestFailures.isIOFailure(exceptionContext.getThrowables())) {
+            breaker.onResult(permit(requestContext), latency(requestContext), true);
+        } else {
+            breaker.onCancel(permit(requestContext));
+        }
+    }
+
+    private void onResult(ClientRequestContext requestContext, boolean failed) {
+        CircuitBreaker breaker = takeBreaker(requestContext);
+        if (breaker != null) {
+            breaker.onResult(permit(requestContext), latency(requestContext), failed);
+        }
+    }
+
+    private static long permit(ClientRequestContext requestContext) {
+        return (Long) requestContext.getProperty(PERMIT_PROPERTY);
+    }
+
+    private static long latency(ClientRequestContext requestContext) {
+        return System.nanoTime() - (Long) requestContext.getProperty(START_PROPERTY);
+    }
+
+    private static CircuitBreaker takeBreaker(ClientRequestContext requestContext) {
+        CircuitBreaker breaker = (CircuitBreaker) requestContext.getProperty(BREAKER_PROPERTY);
+        if (breaker != null) {
+            requestContext.removeProperty(BREAKER_PROPERTY);
+        }
+
+        return breaker;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.circuitbreaker;
+
+import jakarta.ws.rs.ProcessingException;
+
+/**
+ * Thrown when a client request is rejected, because the circuit breaker of its target is open.
+ *
+ * @since 4.0
+ */
+public class CircuitBreakerOpenException extends ProcessingException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
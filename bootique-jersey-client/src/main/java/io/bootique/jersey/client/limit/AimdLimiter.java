@@ -0,0 +1,168 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An adaptive concurrency limiter based on the additive-increase/multiplicative-decrease (AIMD) algorithm. The limit
+ * grows by one when a request succeeds while the limiter is at least half utilized, and shrinks by a "backoff ratio"
+ * when a request is slower than the latency threshold, fails or gets a response indicating an overloaded server.
+ *
+ * @since 4.0
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final long maxWaitNanos;
+
+    // using explicit locks instead of "synchronized", as the callers may block waiting for a permit on virtual threads
+    private final ReentrantLock lock;
+    private final Condition permitAvailable;
+
+    private int limit;
+    private int inFlight;
+
+    public AimdLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            long latencyThresholdMs,
+            double backoffRatio,
+            long maxWaitMs) {
+
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("'minLimit' must be positive: " + minLimit);
+        }
+
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("'maxLimit' must not be less than 'minLimit': " + maxLimit);
+        }
+
+        if (backoffRatio <= 0. || backoffRatio >= 1.) {
+            throw new IllegalArgumentException("'backoffRatio' must be between 0 and 1: " + backoffRatio);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.backoffRatio = backoffRatio;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.lock = new ReentrantLock();
+        this.permitAvailable = lock.newCondition();
+    }
+
+    /**
+     * Takes a permit to send a request, waiting for up to "maxWaitMs" if the limit is reached.
+     *
+     * @return whether the permit was acquired. If true, the caller must call {@link #release(long, boolean)} or
+     * {@link #cancel()} when the request is done.
+     */
+    public boolean acquire() throws InterruptedException {
+
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                remaining = permitAvailable.awaitNanos(remaining);
+            }
+
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit taken by {@link #acquire()}, adjusting the limit based on the request outcome.
+     *
+     * @param latencyNanos request latency
+     * @param dropped      whether the request failed, or the server indicated that it is overloaded
+     */
+    public void release(long latencyNanos, boolean dropped) {
+
+        lock.lock();
+        try {
+            int wasInFlight = inFlight--;
+
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+            } else if (wasInFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+
+            signalIfAvailable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit taken by {@link #acquire()} without adjusting the limit. Used for the requests that failed
+     * without reaching the server, and therefore say nothing about its capacity.
+     */
+    public void cancel() {
+        lock.lock();
+        try {
+            inFlight--;
+            signalIfAvailable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalIfAvailable() {
+        int available = limit - inFlight;
+        if (available == 1) {
+            permitAvailable.signal();
+        } else if (available > 1) {
+            permitAvailable.signalAll();
+        }
+    }
+}
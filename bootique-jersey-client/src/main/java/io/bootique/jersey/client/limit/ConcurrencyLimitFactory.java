@@ -0,0 +1,83 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.limit;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+
+/**
+ * Configures an adaptive (AIMD) concurrency limit for client requests.
+ *
+ * @since 4.0
+ */
+@BQConfig("Adaptive concurrency limit for client requests")
+public class ConcurrencyLimitFactory {
+
+    private int initialLimit;
+    private int minLimit;
+    private int maxLimit;
+    private long latencyThresholdMs;
+    private double backoffRatio;
+    private long maxWaitMs;
+
+    public ConcurrencyLimitFactory() {
+        this.initialLimit = 20;
+        this.minLimit = 1;
+        this.maxLimit = 200;
+        this.latencyThresholdMs = 1000;
+        this.backoffRatio = 0.9;
+    }
+
+    @BQConfigProperty("Concurrency limit at startup. The default is 20.")
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    @BQConfigProperty("The limit never goes below this value. The default is 1.")
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    @BQConfigProperty("The limit never goes above this value. The default is 200.")
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    @BQConfigProperty("Requests slower than this value reduce the limit. The default is 1000 ms.")
+    public void setLatencyThresholdMs(long latencyThresholdMs) {
+        this.latencyThresholdMs = latencyThresholdMs;
+    }
+
+    @BQConfigProperty("A multiplier (between 0 and 1) applied to the limit on slow or failed requests. " +
+            "The default is 0.9.")
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    @BQConfigProperty("How long a request waits for a permit when the limit is reached, before it is rejected. " +
+            "The default (0) rejects such requests immediately.")
+    public void setMaxWaitMs(long maxWaitMs) {
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    public AimdLimiter createLimiter() {
+        return new AimdLimiter(initialLimit, minLimit, maxLimit, latencyThresholdMs, backoffRatio, maxWaitMs);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.limit;
+
+import io.bootique.jersey.client.HttpTargets;
+import io.bootique.jersey.client.RequestFailures;
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import org.glassfish.jersey.client.spi.PostInvocationInterceptor;
+
+import java.util.Map;
+
+/**
+ * Applies concurrency limits to client requests. Requests sent via named targets with their own limiter use that
+ * limiter, all other requests use the client-wide limiter, if configured.
+ *
+ * @since 4.0
+ */
+// running before the logging and metrics filters, so that the rejected requests do not reach them
+@Priority(50)
+public class ConcurrencyLimitFilter implements ClientRequestFilter, ClientResponseFilter, PostInvocationInterceptor {
+
+    /**
+     * A name of a target or request property that excludes the request from the concurrency limits when set to
+     * "true". Used for the internal requests issued while processing another request (e.g. OAuth2 token requests),
+     * which would otherwise compete for permits with the request that triggered them.
+     */
+    public static final String BYPASS_PROPERTY = "io.bootique.jersey.client.limit.bypass";
+
+    private static final String LIMITER_PROPERTY = ConcurrencyLimitFilter.class.getName() + ".limiter";
+    private static final String START_PROPERTY = ConcurrencyLimitFilter.class.getName() + ".start";
+
+    private final Map<String, AimdLimiter> targetLimiters;
+    private final AimdLimiter defaultLimiter;
+
+    public ConcurrencyLimitFilter(Map<String, AimdLimiter> targetLimiters, AimdLimiter defaultLimiter) {
+        this.targetLimiters = targetLimiters;
+        this.defaultLimiter = defaultLimiter;
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+
+        AimdLimiter limiter = limiter(requestContext);
+        if (limiter == null) {
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            throw new ConcurrencyLimitExceededException("Concurrency limit of " + limiter.getLimit()
+                    + " exceeded for request to " + requestContext.getUri());
+        }
+
+        requestContext.setProperty(LIMITER_PROPERTY, limiter);
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+
+        // 429 and 503 are the server telling us to slow down
+        int status = responseContext.getStatus();
+        release(requestContext, status == 429 || status == 503);
+    }
+
+    @Override
+    public void afterRequest(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        // the permit is released in the response filter
+    }
+
+    @Override
+    public void onException(ClientRequestContext requestContext, ExceptionContext exceptionContext) {
+
+        // a no-op if the permit was not taken or was already released in the response filter
+        AimdLimiter limiter = takeLimiter(requestContext);
+        if (limiter == null) {
+            return;
+        }
+
+        // only the I/O errors say something about the target. Failures within the client (e.g. in other filters) must
+        // not reduce the limit
+        if (RequestFailures.isIOFailure(exceptionContext.getThrowables())) {
+            limiter.release(System.nanoTime() - (Long) requestContext.getProperty(START_PROPERTY), true);
+        } else {
+            limiter.cancel();
+        }
+    }
+
+    private void release(ClientRequestContext requestContext, boolean dropped) {
+        AimdLimiter limiter = takeLimiter(requestContext);
+        if (limiter != null) {
+            limiter.release(System.nanoTime() - (Long) requestContext.getProperty(START_PROPERTY), dropped);
+        }
+    }
+
+    private static AimdLimiter takeLimiter(ClientRequestContext requestContext) {
+        AimdLimiter limiter = (AimdLimiter) requestContext.getProperty(LIMITER_PROPERTY);
+        if (limiter != null) {
+            requestContext.removeProperty(LIMITER_PROPERTY);
+        }
+
+        return limiter;
+    }
+
+    private AimdLimiter limiter(ClientRequestContext requestContext) {
+
+        if (Boolean.TRUE.equals(requestContext.getConfiguration().getProperty(BYPASS_PROPERTY))
+                || Boolean.TRUE.equals(requestContext.getProperty(BYPASS_PROPERTY))) {
+            return null;
+        }
+
+        Object target = requestContext.getConfiguration().getProperty(HttpTargets.TARGET_NAME_PROPERTY);
+        AimdLimiter limiter = target != null ? targetLimiters.get(target.toString()) : null;
+        return limiter != null ? limiter : defaultLimiter;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.log;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+
+/**
+ * Configures a structured client access log with sampling and asynchronous output.
+ *
+ * @since 4.0
+ */
+@BQConfig("Structured client access log with sampling and asynchronous output")
+public class AccessLogFactory {
+
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+
+    private int sampleEvery;
+    private long slowThresholdMs;
+    private boolean logFailed;
+    private int queueSize;
+
+    public AccessLogFactory() {
+        this.sampleEvery = 1;
+        this.logFailed = true;
+        this.queueSize = DEFAULT_QUEUE_SIZE;
+    }
+
+    @BQConfigProperty("Logs every Nth request. The default is 1, i.e. all requests are logged. 0 disables sampling, " +
+            "so that only slow and failed requests are logged.")
+    public void setSampleEvery(int sampleEvery) {
+        this.sampleEvery = sampleEvery;
+    }
+
+    @BQConfigProperty("Requests that took longer than this value are always logged. The default (0) disables this " +
+            "check.")
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    @BQConfigProperty("Whether requests with 4xx and 5xx responses, as well as the requests that " +
+            "failed without a response, are always logged. The default is 'true'.")
+    public void setLogFailed(boolean logFailed) {
+        this.logFailed = logFailed;
+    }
+
+    @BQConfigProperty("Max number of log entries waiting to be written. When exceeded, new entries are dropped. " +
+            "The default is 8192.")
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public AccessLogger createAccessLogger() {
+        if (sampleEvery < 0) {
+            throw new IllegalArgumentException("'sampleEvery' must not be negative: " + sampleEvery);
+        }
+
+        return new AccessLogger(sampleEvery, slowThresholdMs, logFailed, queueSize);
+    }
+}
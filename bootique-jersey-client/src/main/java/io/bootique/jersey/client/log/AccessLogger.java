@@ -0,0 +1,272 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.log;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import org.glassfish.jersey.client.spi.PostInvocationInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A client access logger that writes one structured line per request, such as
+ * {@code method=GET url=http://example.org/a status=200 ms=12}. Requests that failed without a response (e.g. on
+ * connection errors) are logged with the error instead of the status, such as
+ * {@code method=GET url=http://example.org/a error=ConnectException ms=3}. Only a sample of requests is logged, as
+ * well as all the slow and failed ones. Lines are formatted on the request thread without parameter substitution and
+ * are written to the log by a background thread in batches. The MDC of the request thread (e.g. the transaction id) is
+ * captured together with the line and is restored on the background thread when the line is written.
+ *
+ * @since 4.0
+ */
+@Priority(100)
+public class AccessLogger implements ClientRequestFilter, ClientResponseFilter, PostInvocationInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogger.class);
+
+    private static final String START_PROPERTY = AccessLogger.class.getName() + ".start";
+    private static final int BATCH_SIZE = 256;
+
+    // reused per thread to avoid growing a new buffer for each line
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final int sampleEvery;
+    private final long slowThresholdNanos;
+    private final boolean logFailed;
+
+    private final AtomicLong counter;
+    private final LongAdder dropped;
+    private final BlockingQueue<Entry> queue;
+    private final Thread writer;
+    private volatile boolean stopped;
+
+    public AccessLogger(int sampleEvery, long slowThresholdMs, boolean logFailed, int queueSize) {
+        this.sampleEvery = sampleEvery;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.logFailed = logFailed;
+
+        this.counter = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+
+        this.writer = new Thread(this::writeLoop, "bootique-http-client-access-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+
+        long elapsedNanos = elapsedNanos(requestContext);
+        int status = responseContext.getStatus();
+
+        if (shouldLog(status, elapsedNanos)) {
+            enqueue(format(requestContext.getMethod(), requestContext.getUri(), status, elapsedNanos));
+        }
+    }
+
+    @Override
+    public void afterRequest(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+        // the requests with responses are logged in the response filter
+    }
+
+    @Override
+    public void onException(ClientRequestContext requestContext, ExceptionContext exceptionContext) {
+
+        // the response, if any, was already logged in the response filter
+        if (exceptionContext.getResponseContext().isPresent()) {
+            return;
+        }
+
+        long elapsedNanos = elapsedNanos(requestContext);
+        if (shouldLog(true, elapsedNanos)) {
+            Throwable error = exceptionContext.getThrowables().peekFirst();
+            enqueue(format(requestContext.getMethod(), requestContext.getUri(), errorName(error), elapsedNanos));
+        }
+    }
+
+    /**
+     * Returns the number of log lines dropped because the output queue was full.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the background writer, flushing the lines that are still in the queue.
+     */
+    public void shutdown() {
+        stopped = true;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean shouldLog(int status, long elapsedNanos) {
+        return shouldLog(status >= 400, elapsedNanos);
+    }
+
+    private boolean shouldLog(boolean failed, long elapsedNanos) {
+
+        if (logFailed && failed) {
+            return true;
+        }
+
+        if (slowThresholdNanos > 0 && elapsedNanos >= slowThresholdNanos) {
+            return true;
+        }
+
+        return sampleEvery > 0 && counter.getAndIncrement() % sampleEvery == 0;
+    }
+
+    static String format(String method, URI uri, int status, long elapsedNanos) {
+        StringBuilder out = appendUrl(method, uri);
+        out.append(" status=").append(status)
+                .append(" ms=").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return out.toString();
+    }
+
+    static String format(String method, URI uri, String error, long elapsedNanos) {
+        StringBuilder out = appendUrl(method, uri);
+        out.append(" error=").append(error)
+                .append(" ms=").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return out.toString();
+    }
+
+    // the root cause is the most specific, e.g. "ConnectException" instead of Jersey "ProcessingException" wrapper
+    static String errorName(Throwable error) {
+        if (error == null) {
+            return "unknown";
+        }
+
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+
+        return root.getClass().getSimpleName();
+    }
+
+    private static StringBuilder appendUrl(String method, URI uri) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+
+        // logging URL without the query, as it is expensive to render and may contain secrets
+        out.append("method=").append(method).append(" url=");
+        if (uri.getScheme() != null) {
+            out.append(uri.getScheme()).append("://");
+        }
+        if (uri.getRawAuthority() != null) {
+            out.append(uri.getRawAuthority());
+        }
+        if (uri.getRawPath() != null) {
+            out.append(uri.getRawPath());
+        }
+
+        return out;
+    }
+
+    private static long elapsedNanos(ClientRequestContext requestContext) {
+        // the start time may be missing if the request was rejected by a filter that ran before this logger
+        Long start = (Long) requestContext.getProperty(START_PROPERTY);
+        return start != null ? System.nanoTime() - start : 0L;
+    }
+
+    private void enqueue(String line) {
+        if (!queue.offer(new Entry(line, MDC.getCopyOfContextMap()))) {
+            dropped.increment();
+        }
+    }
+
+    private void writeLoop() {
+
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (!stopped) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            write(batch);
+        }
+
+        // flush the remaining lines on shutdown
+        queue.drainTo(batch);
+        write(batch);
+    }
+
+    private void write(List<Entry> batch) {
+        if (LOGGER.isInfoEnabled()) {
+            try {
+                for (Entry e : batch) {
+                    if (e.mdc != null) {
+                        MDC.setContextMap(e.mdc);
+                    } else {
+                        MDC.clear();
+                    }
+
+                    LOGGER.info(e.line);
+                }
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        batch.clear();
+    }
+
+    private static final class Entry {
+
+        final String line;
+        final Map<String, String> mdc;
+
+        Entry(String line, Map<String, String> mdc) {
+            this.line = line;
+            this.mdc = mdc;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClientAsyncExecutorProviderTest {
+
+    @Test
+    public void rejection_FailFast() {
+
+        ClientAsyncExecutorProvider provider = new ClientAsyncExecutorProvider(
+                1,
+                new ClientAsyncPoolSettings(AsyncQueueType.array, 1, 0, AsyncRejectionPolicy.failFast, 0));
+
+        ExecutorService executor = provider.getExecutorService();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.submit(() -> await(latch));
+            executor.submit(() -> await(latch));
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> await(latch)));
+        } finally {
+            latch.countDown();
+            provider.dispose(executor);
+        }
+    }
+
+    @Test
+    public void rejection_CallerRuns() throws Exception {
+
+        ClientAsyncExecutorProvider provider = new ClientAsyncExecutorProvider(
+                1,
+                new ClientAsyncPoolSettings(AsyncQueueType.linked, 1, 0, AsyncRejectionPolicy.callerRuns, 0));
+
+        ExecutorService executor = provider.getExecutorService();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.submit(() -> await(latch));
+            executor.submit(() -> await(latch));
+
+            Thread caller = Thread.currentThread();
+            Future<Thread> f = executor.submit(Thread::currentThread);
+            assertSame(caller, f.get());
+        } finally {
+            latch.countDown();
+            provider.dispose(executor);
+        }
+    }
+
+    @Test
+    public void rejection_BlockWithTimeout() {
+
+        ClientAsyncExecutorProvider provider = new ClientAsyncExecutorProvider(
+                1,
+                new ClientAsyncPoolSettings(AsyncQueueType.array, 1, 0, AsyncRejectionPolicy.block, 50));
+
+        ExecutorService executor = provider.getExecutorService();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.submit(() -> await(latch));
+            executor.submit(() -> await(latch));
+
+            long t0 = System.currentTimeMillis();
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> await(latch)));
+            assertTrue(System.currentTimeMillis() - t0 >= 50);
+        } finally {
+            latch.countDown();
+            provider.dispose(executor);
+        }
+    }
+
+    private static Object await(CountDownLatch latch) throws InterruptedException {
+        latch.await();
+        return null;
+    }
+}
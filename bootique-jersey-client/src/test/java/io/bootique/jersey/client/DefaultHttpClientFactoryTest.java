@@ -21,9 +21,14 @@ package io.bootique.jersey.client;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientRequestFilter;
+import org.glassfish.jersey.apache5.connector.Apache5ClientProperties;
+import org.glassfish.jersey.apache5.connector.Apache5ConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.jnh.connector.JavaNetHttpClientProperties;
+import org.glassfish.jersey.jnh.connector.JavaNetHttpConnectorProvider;
 import org.junit.jupiter.api.Test;
 
+import java.net.http.HttpClient;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -63,6 +68,29 @@ public class DefaultHttpClientFactoryTest {
         assertNotSame(c1, c2);
     }
 
+    @Test
+    public void sharedClient() {
+
+        Map<String, ClientRequestFilter> authFilters = new HashMap<>();
+        authFilters.put("one", auth1);
+        authFilters.put("two", auth2);
+
+        DefaultHttpClientFactory factory = new DefaultHttpClientFactory(config, authFilters, Collections.emptyMap());
+
+        try {
+            Client c1 = factory.sharedClient();
+            assertSame(c1, factory.sharedClient());
+            assertNotSame(c1, factory.newClient());
+
+            Client c2 = factory.newBuilder().auth("one").buildShared();
+            assertNotSame(c1, c2);
+            assertSame(c2, factory.newBuilder().auth("one").buildShared());
+            assertNotSame(c2, factory.newBuilder().auth("two").buildShared());
+        } finally {
+            factory.shutdown();
+        }
+    }
+
     @Test
     public void newClientBuilder_Auth() {
 
@@ -93,4 +121,102 @@ public class DefaultHttpClientFactoryTest {
         DefaultHttpClientFactory factory = new DefaultHttpClientFactory(config, authFilters, Collections.emptyMap());
         assertThrows(IllegalArgumentException.class, () -> factory.newBuilder().auth("three"));
     }
+
+    @Test
+    public void newClient_ConnectionPool() {
+
+        DefaultHttpClientFactory factory = new DefaultHttpClientFactory(
+                config,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                new ConnectionPoolFactory());
+
+        try {
+            Client c1 = factory.newClient();
+            Client c2 = factory.newClient();
+
+            assertTrue(((ClientConfig) c1.getConfiguration()).getConnectorProvider() instanceof Apache5ConnectorProvider);
+            assertEquals(true, c1.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER_SHARED));
+
+            Object cm1 = c1.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER);
+            assertNotNull(cm1);
+            assertSame(cm1, c2.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER));
+        } finally {
+            factory.shutdown();
+        }
+    }
+
+    @Test
+    public void newClientBuilder_ConnectionPoolOverride() {
+
+        DefaultHttpClientFactory factory = new DefaultHttpClientFactory(
+                config,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                new ConnectionPoolFactory());
+
+        ConnectionPoolFactory override = new ConnectionPoolFactory();
+        override.setMaxTotal(5);
+
+        try {
+            Client c1 = factory.newClient();
+            Client c2 = factory.newBuilder().connectionPool(override).build();
+
+            assertNotSame(
+                    c1.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER),
+                    c2.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER));
+        } finally {
+            factory.shutdown();
+        }
+    }
+
+    @Test
+    public void newClient_Http2() {
+
+        DefaultHttpClientFactory factory = new DefaultHttpClientFactory(
+                config,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                new ConnectionPoolFactory(),
+                true);
+
+        try {
+            Client c1 = factory.newClient();
+            assertTrue(((ClientConfig) c1.getConfiguration()).getConnectorProvider() instanceof JavaNetHttpConnectorProvider);
+            assertEquals(HttpClient.Version.HTTP_2, c1.getConfiguration().getProperty(JavaNetHttpClientProperties.HTTP_VERSION));
+
+            Client c2 = factory.newBuilder().http2(false).build();
+            assertTrue(((ClientConfig) c2.getConfiguration()).getConnectorProvider() instanceof Apache5ConnectorProvider);
+        } finally {
+            factory.shutdown();
+        }
+    }
+
+    @Test
+    public void sharedClient_EqualConnectionPools() {
+
+        DefaultHttpClientFactory factory = new DefaultHttpClientFactory(config, Collections.emptyMap(), Collections.emptyMap());
+
+        ConnectionPoolFactory p1 = new ConnectionPoolFactory();
+        p1.setMaxPerRoute(7);
+        ConnectionPoolFactory p2 = new ConnectionPoolFactory();
+        p2.setMaxPerRoute(7);
+        ConnectionPoolFactory p3 = new ConnectionPoolFactory();
+        p3.setMaxPerRoute(8);
+
+        try {
+            Client c1 = factory.newBuilder().connectionPool(p1).buildShared();
+            assertSame(c1, factory.newBuilder().connectionPool(p2).buildShared());
+
+            Client c3 = factory.newBuilder().connectionPool(p3).buildShared();
+            assertNotSame(c1, c3);
+
+            // equal pools share a connection manager even between unshared clients
+            assertSame(
+                    c1.getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER),
+                    factory.newBuilder().connectionPool(p2).build().getConfiguration().getProperty(Apache5ClientProperties.CONNECTION_MANAGER));
+        } finally {
+            factory.shutdown();
+        }
+    }
 }
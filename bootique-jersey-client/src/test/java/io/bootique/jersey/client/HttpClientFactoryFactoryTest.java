@@ -21,12 +21,19 @@ package io.bootique.jersey.client;
 
 import io.bootique.di.DIBootstrap;
 import io.bootique.di.Injector;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreaker;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreakerFactory;
+import io.bootique.shutdown.DefaultShutdownManager;
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.WebTarget;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +41,12 @@ import static org.junit.jupiter.api.Assertions.*;
 public class HttpClientFactoryFactoryTest {
 
     private final Injector injector = DIBootstrap.createInjector();
+    private final DefaultShutdownManager shutdownManager = new DefaultShutdownManager(Duration.ofSeconds(5));
+
+    @AfterEach
+    public void shutdown() {
+        shutdownManager.shutdown();
+    }
 
     @Test
     public void createClientFactory_AsyncThreadPool() {
@@ -50,6 +63,26 @@ public class HttpClientFactoryFactoryTest {
         }
     }
 
+    @Test
+    public void createClientFactory_VirtualAsyncExecutor() {
+
+        HttpClientFactoryFactory factoryFactory = new HttpClientFactoryFactory(
+                injector,
+                Set.of(),
+                new HttpUrlConnectorProvider(),
+                shutdownManager);
+        factoryFactory.setAsyncExecutor(AsyncExecutorType.virtual);
+
+        Client client = factoryFactory.createClientFactory().newClient();
+
+        try {
+            assertTrue(client.getConfiguration().isRegistered(VirtualThreadClientAsyncExecutorProvider.class));
+            assertFalse(client.getConfiguration().isRegistered(ClientAsyncExecutorProvider.class));
+        } finally {
+            client.close();
+        }
+    }
+
     @Test
     public void createClientFactory() {
 
@@ -81,4 +114,69 @@ public class HttpClientFactoryFactoryTest {
             client.close();
         }
     }
+
+    @Test
+    public void createTargets_CacheTargets() {
+
+        HttpClientFactoryFactory factoryFactory = new HttpClientFactoryFactory(
+                injector,
+                Set.of(),
+                new HttpUrlConnectorProvider(),
+                shutdownManager);
+
+        WebTargetFactory t1 = new WebTargetFactory();
+        t1.setUrl("http://127.0.0.1:8080/t1");
+        factoryFactory.setTargets(Map.of("t1", t1));
+
+        HttpClientFactory clientFactory = factoryFactory.createClientFactory();
+
+        HttpTargets uncached = factoryFactory.createTargets(clientFactory);
+        assertNotSame(uncached.newTarget("t1"), uncached.newTarget("t1"));
+
+        factoryFactory.setCacheTargets(true);
+        HttpTargets cached = factoryFactory.createTargets(clientFactory);
+        WebTarget target = cached.newTarget("t1");
+        assertSame(target, cached.newTarget("t1"));
+        assertEquals("http://127.0.0.1:8080/t1", target.getUri().toString());
+    }
+
+    @Test
+    public void createTargets_TargetNameProperty() {
+
+        HttpClientFactoryFactory factoryFactory = new HttpClientFactoryFactory(
+                injector,
+                Set.of(),
+                new HttpUrlConnectorProvider(),
+                shutdownManager);
+
+        WebTargetFactory t1 = new WebTargetFactory();
+        t1.setUrl("http://127.0.0.1:8080/t1");
+        factoryFactory.setTargets(Map.of("t1", t1));
+
+        HttpTargets targets = factoryFactory.createTargets(factoryFactory.createClientFactory());
+        assertEquals("t1", targets.newTarget("t1").getConfiguration().getProperty(HttpTargets.TARGET_NAME_PROPERTY));
+    }
+
+    @Test
+    public void getCircuitBreakers() {
+
+        HttpClientFactoryFactory factoryFactory = new HttpClientFactoryFactory(
+                injector,
+                Set.of(),
+                new HttpUrlConnectorProvider(),
+                shutdownManager);
+
+        WebTargetFactory t1 = new WebTargetFactory();
+        t1.setUrl("http://127.0.0.1:8080/t1");
+        t1.setCircuitBreaker(new CircuitBreakerFactory());
+
+        WebTargetFactory t2 = new WebTargetFactory();
+        t2.setUrl("http://127.0.0.1:8080/t2");
+
+        factoryFactory.setTargets(Map.of("t1", t1, "t2", t2));
+
+        Map<String, CircuitBreaker> breakers = factoryFactory.getCircuitBreakers();
+        assertEquals(Set.of("t1"), breakers.keySet());
+        assertSame(breakers.get("t1"), factoryFactory.getCircuitBreakers().get("t1"));
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client;
+
+import io.bootique.BQRuntime;
+import io.bootique.Bootique;
+import io.bootique.jersey.JerseyModule;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreakerOpenException;
+import io.bootique.jersey.client.circuitbreaker.CircuitBreakerState;
+import io.bootique.jersey.client.limit.ConcurrencyLimitExceededException;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.connector.PortFinder;
+import io.bootique.jetty.junit.JettyTester;
+import io.bootique.junit.BQApp;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import io.bootique.junit.TestRuntumeBuilder;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class HttpTargets_CircuitBreakerIT {
+
+    static final JettyTester jetty = JettyTester.create();
+
+    @BQApp
+    static final BQRuntime server = Bootique.app("--server")
+            .modules(JettyModule.class, JerseyModule.class)
+            .module(b -> JerseyModule.extend(b).addApiResource(Resource.class))
+            .module(jetty.moduleReplacingConnectors())
+            .createRuntime();
+
+    @BQTestTool
+    public BQTestFactory clientFactory = new BQTestFactory();
+
+    static volatile CountDownLatch entered;
+    static volatile CountDownLatch unblock;
+
+    // a breaker that opens on the first failure and stays open for the duration of the test
+    private static TestRuntumeBuilder breaker(TestRuntumeBuilder builder, String target, String url) {
+        String prefix = "bq.jerseyclient.targets." + target;
+        return builder
+                .property(prefix + ".url", url)
+                .property(prefix + ".circuitBreaker.windowSize", "1")
+                .property(prefix + ".circuitBreaker.minCalls", "1")
+                .property(prefix + ".circuitBreaker.failureRateThreshold", "1")
+                .property(prefix + ".circuitBreaker.openDurationMs", "60000");
+    }
+
+    private static CircuitBreakerState state(BQRuntime client, String target) {
+        return client.getInstance(HttpClientFactoryFactory.class).getCircuitBreakers().get(target).getState();
+    }
+
+    @Test
+    public void opensOnServerError() {
+        BQRuntime client = breaker(clientFactory.app().modules(JerseyClientModule.class), "t", JettyTester.getUrl(server) + "/fail")
+                .createRuntime();
+        HttpTargets targets = client.getInstance(HttpTargets.class);
+
+        assertEquals(500, targets.newTarget("t").request().get().getStatus());
+        assertEquals(CircuitBreakerState.OPEN, state(client, "t"));
+        assertThrows(CircuitBreakerOpenException.class, () -> targets.newTarget("t").request().get());
+    }
+
+    @Test
+    public void doesNotOpenOnClientError() {
+        BQRuntime client = breaker(clientFactory.app().modules(JerseyClientModule.class), "t", JettyTester.getUrl(server) + "/missing")
+                .createRuntime();
+        HttpTargets targets = client.getInstance(HttpTargets.class);
+
+        assertEquals(404, targets.newTarget("t").request().get().getStatus());
+        assertEquals(CircuitBreakerState.CLOSED, state(client, "t"));
+    }
+
+    @Test
+    public void opensOnNoResponse() {
+        String badUrl = "http://127.0.0.1:" + PortFinder.findAvailablePort("127.0.0.1") + "/";
+        BQRuntime client = breaker(clientFactory.app().modules(JerseyClientModule.class), "t", badUrl).createRuntime();
+        HttpTargets targets = client.getInstance(HttpTargets.class);
+
+        ProcessingException e = assertThrows(ProcessingException.class, () -> targets.newTarget("t").request().get());
+        assertFalse(e instanceof CircuitBreakerOpenException, () -> "Unexpected: " + e);
+        assertEquals(CircuitBreakerState.OPEN, state(client, "t"));
+
+        assertThrows(CircuitBreakerOpenException.class, () -> targets.newTarget("t").request().get());
+    }
+
+    @Test
+    public void doesNotOpenOnClientSideFailure() {
+        BQRuntime client = breaker(clientFactory.app().modules(JerseyClientModule.class), "t", JettyTester.getUrl(server) + "/ok")
+                .createRuntime();
+        HttpTargets targets = client.getInstance(HttpTargets.class);
+
+        WebTarget failing = targets.newTarget("t").register((ClientRequestFilter) r -> {
+            throw new IllegalStateException("Client-side failure");
+        });
+        assertThrows(ProcessingException.class, () -> failing.request().get());
+        assertEquals(CircuitBreakerState.CLOSED, state(client, "t"));
+
+        JettyTester.assertOk(targets.newTarget("t").request().get());
+    }
+
+    @Test
+    public void withConcurrencyLimit() throws Exception {
+
+        TestRuntumeBuilder builder = clientFactory.app()
+                .modules(JerseyClientModule.class)
+
+                // client-wide limit of a single request, shared by all targets below
+                .property("bq.jerseyclient.concurrencyLimit.initialLimit", "1")
+                .property("bq.jerseyclient.concurrencyLimit.maxLimit", "1")
+                .property("bq.jerseyclient.targets.slow.url", JettyTester.getUrl(server) + "/slow");
+
+        breaker(builder, "failing", JettyTester.getUrl(server) + "/fail");
+        breaker(builder, "healthy", JettyTester.getUrl(server) + "/ok");
+
+        BQRuntime client = builder.createRuntime();
+        HttpTargets targets = client.getInstance(HttpTargets.class);
+
+        assertEquals(500, targets.newTarget("failing").request().get().getStatus());
+        assertEquals(CircuitBreakerState.OPEN, state(client, "failing"));
+
+        entered = new CountDownLatch(1);
+        unblock = new CountDownLatch(1);
+        Future<Response> slow = targets.newTarget("slow").request().async().get();
+
+        try {
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // the limiter is full, but an open breaker must reject the request before the limiter sees it
+            assertThrows(CircuitBreakerOpenException.class, () -> targets.newTarget("failing").request().get());
+
+            // a request rejected by the limiter never reached the target, so it must not trip the breaker
+            assertThrows(ConcurrencyLimitExceededException.class, () -> targets.newTarget("healthy").request().get());
+            assertEquals(CircuitBreakerState.CLOSED, state(client, "healthy"));
+        } finally {
+            unblock.countDown();
+        }
+
+        assertEquals(200, slow.get(5, TimeUnit.SECONDS).getStatus());
+        JettyTester.assertOk(targets.newTarget("healthy").request().get());
+    }
+
+    @Path("/")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class Resource {
+
+        @GET
+        @Path("ok")
+        public String ok() {
+            return "ok";
+        }
+
+        @GET
+        @Path("fail")
+        public Response fail() {
+            return Response.serverError().build();
+        }
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            entered.countDown();
+            unblock.await(5, TimeUnit.SECONDS);
+            return "slow";
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client;
+
+import io.bootique.BQRuntime;
+import io.bootique.Bootique;
+import io.bootique.jersey.JerseyModule;
+import io.bootique.jersey.client.limit.ConcurrencyLimitExceededException;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.junit.JettyTester;
+import io.bootique.junit.BQApp;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class HttpTargets_ConcurrencyLimitIT {
+
+    static final JettyTester jetty = JettyTester.create();
+
+    @BQApp
+    static final BQRuntime server = Bootique.app("--server")
+            .modules(JettyModule.class, JerseyModule.class)
+            .module(b -> JerseyModule.extend(b).addApiResource(Resource.class))
+            .module(jetty.moduleReplacingConnectors())
+            .createRuntime();
+
+    @BQTestTool
+    public BQTestFactory clientFactory = new BQTestFactory();
+
+    static volatile CountDownLatch entered;
+    static volatile CountDownLatch unblock;
+
+    @Test
+    public void targetLimit() throws Exception {
+        HttpTargets targets = clientFactory.app()
+                .modules(JerseyClientModule.class)
+                .property("bq.jerseyclient.targets.limited.url", JettyTester.getUrl(server) + "/slow")
+                .property("bq.jerseyclient.targets.limited.concurrencyLimit.initialLimit", "1")
+                .property("bq.jerseyclient.targets.limited.concurrencyLimit.maxLimit", "1")
+                .property("bq.jerseyclient.targets.unlimited.url", JettyTester.getUrl(server) + "/fast")
+                .createRuntime()
+                .getInstance(HttpTargets.class);
+
+        entered = new CountDownLatch(1);
+        unblock = new CountDownLatch(1);
+
+        WebTarget limited = targets.newTarget("limited");
+        Future<Response> first = limited.request().async().get();
+
+        try {
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ConcurrencyLimitExceededException.class, () -> limited.request().get());
+
+            // targets with no limit configured are not affected
+            JettyTester.assertOk(targets.newTarget("unlimited").request().get());
+        } finally {
+            unblock.countDown();
+        }
+
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+
+        // the permit must have been released by the first request
+        JettyTester.assertOk(limited.request().get());
+    }
+
+    @Test
+    public void clientSideFailureDoesNotReduceLimit() throws Exception {
+        HttpTargets targets = clientFactory.app()
+                .modules(JerseyClientModule.class)
+                .property("bq.jerseyclient.targets.limited.url", JettyTester.getUrl(server))
+                .property("bq.jerseyclient.targets.limited.concurrencyLimit.initialLimit", "2")
+                .property("bq.jerseyclient.targets.limited.concurrencyLimit.minLimit", "1")
+                .property("bq.jerseyclient.targets.limited.concurrencyLimit.maxLimit", "2")
+                .property("bq.jerseyclient.targets.limited.concurrencyLimit.backoffRatio", "0.5")
+                .createRuntime()
+                .getInstance(HttpTargets.class);
+
+        WebTarget failing = targets.newTarget("limited").register((ClientRequestFilter) r -> {
+            throw new IllegalStateException("Client-side failure");
+        });
+        assertThrows(ProcessingException.class, () -> failing.path("fast").request().get());
+
+        entered = new CountDownLatch(1);
+        unblock = new CountDownLatch(1);
+
+        WebTarget limited = targets.newTarget("limited");
+        Future<Response> first = limited.path("slow").request().async().get();
+
+        try {
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // if the failure was counted as a drop, the limit would've been cut to 1, and this request rejected
+            JettyTester.assertOk(limited.path("fast").request().get());
+        } finally {
+            unblock.countDown();
+        }
+
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    public void oauth2TokenRequestBypassesLimit() {
+        HttpTargets targets = clientFactory.app()
+                .modules(JerseyClientModule.class)
+                .property("bq.jerseyclient.concurrencyLimit.initialLimit", "1")
+                .property("bq.jerseyclient.concurrencyLimit.maxLimit", "1")
+                .property("bq.jerseyclient.auth.a.type", "oauth2")
+                .property("bq.jerseyclient.auth.a.username", "u")
+                .property("bq.jerseyclient.auth.a.password", "p")
+                .property("bq.jerseyclient.auth.a.tokenUrl", JettyTester.getUrl(server) + "/token")
+                .property("bq.jerseyclient.targets.protected.url", JettyTester.getUrl(server) + "/require_token")
+                .property("bq.jerseyclient.targets.protected.auth", "a")
+                .createRuntime()
+                .getInstance(HttpTargets.class);
+
+        // the token is requested while the protected request holds the only permit
+        JettyTester.assertOk(targets.newTarget("protected").request().get());
+    }
+
+    @Path("/")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class Resource {
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            entered.countDown();
+            unblock.await(5, TimeUnit.SECONDS);
+            return "slow";
+        }
+
+        @GET
+        @Path("fast")
+        public String fast() {
+            return "fast";
+        }
+
+        @POST
+        @Path("token")
+        @Produces(MediaType.APPLICATION_JSON)
+        public String token() {
+            return "{\"access_token\":\"t\",\"token_type\":\"example\",\"expires_in\":3600}";
+        }
+
+        @GET
+        @Path("require_token")
+        public Response requireToken(@HeaderParam("authorization") String auth) {
+            return auth != null && auth.toLowerCase().startsWith("bearer ")
+                    ? Response.ok().build()
+                    : Response.status(Response.Status.BAD_REQUEST).build();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OAuth2TokenAuthenticatorTest {
+
+    private final ManualScheduler scheduler = new ManualScheduler();
+
+    @Test
+    public void getAuthorization_BackgroundRefresh() {
+
+        CountingDAO dao = new CountingDAO(Duration.ofSeconds(100), 0);
+        OAuth2TokenAuthenticator authenticator = new OAuth2TokenAuthenticator(
+                OAuth2Token.expiredToken(),
+                dao,
+                scheduler,
+                0.2,
+                Duration.ofMillis(10));
+
+        assertEquals("Bearer t:0", authenticator.getAuthorization());
+        assertEquals("Bearer t:0", authenticator.getAuthorization());
+        assertEquals(1, dao.calls.get());
+
+        // refresh is scheduled at 20% of the token lifetime
+        long delayMs = scheduler.nextDelayMs();
+        assertTrue(delayMs > 19_000 && delayMs <= 20_000, "Unexpected refresh delay: " + delayMs);
+
+        scheduler.runNext();
+        assertEquals(2, dao.calls.get());
+        assertEquals("Bearer t:1", authenticator.getAuthorization());
+        assertEquals(2, dao.calls.get());
+    }
+
+    @Test
+    public void getAuthorization_BackgroundRefreshRetry() {
+
+        // the second and the third calls fail
+        CountingDAO dao = new CountingDAO(Duration.ofSeconds(100), 2);
+        OAuth2TokenAuthenticator authenticator = new OAuth2TokenAuthenticator(
+                OAuth2Token.expiredToken(),
+                dao,
+                scheduler,
+                0.1,
+                Duration.ofMillis(50));
+
+        assertEquals("Bearer t:0", authenticator.getAuthorization());
+
+        // the first refresh fails, and is retried with an exponential backoff
+        scheduler.runNext();
+        assertEquals(2, dao.calls.get());
+        assertEquals(50, scheduler.nextDelayMs());
+
+        scheduler.runNext();
+        assertEquals(3, dao.calls.get());
+        assertEquals(100, scheduler.nextDelayMs());
+
+        // the old token is still used while the refresh is failing
+        assertEquals("Bearer t:0", authenticator.getAuthorization());
+
+        scheduler.runNext();
+        assertEquals(4, dao.calls.get());
+        assertEquals("Bearer t:3", authenticator.getAuthorization());
+    }
+
+    @Test
+    public void getAuthorization_BackgroundRefresh_AboutToExpire() {
+
+        // the token expires within the safety margin, so the request thread must not wait for the background refresh
+        CountingDAO dao = new CountingDAO(Duration.ofSeconds(1), 0);
+        OAuth2TokenAuthenticator authenticator = new OAuth2TokenAuthenticator(
+                OAuth2Token.expiredToken(),
+                dao,
+                scheduler,
+                0.8,
+                Duration.ofMillis(10));
+
+        assertEquals("Bearer t:0", authenticator.getAuthorization());
+        assertEquals("Bearer t:1", authenticator.getAuthorization());
+        assertEquals(2, dao.calls.get());
+    }
+
+    static class CountingDAO extends OAuth2TokenDAO {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final Duration lifetime;
+        final int failures;
+
+        CountingDAO(Duration lifetime, int failures) {
+            super(u -> null, "http://example.org/token", "u", "p", lifetime);
+            this.lifetime = lifetime;
+            this.failures = failures;
+        }
+
+        @Override
+        public OAuth2Token getToken() {
+            int call = calls.getAndIncrement();
+            if (call > 0 && call <= failures) {
+                throw new RuntimeException("Token server is down");
+            }
+
+            // only the first token is short-lived, so that the test doesn't observe the refreshes of the later tokens
+            Duration tokenLifetime = call == 0 ? lifetime : Duration.ofHours(1);
+            return OAuth2Token.token("t:" + call, LocalDateTime.now().plus(tokenLifetime));
+        }
+    }
+
+    /**
+     * A scheduler that runs the tasks only when asked by the test, so that the tests don't depend on the timing.
+     */
+    static class ManualScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+        private final Deque<ManualFuture> tasks = new ArrayDeque<>();
+
+        long nextDelayMs() {
+            return tasks.getFirst().delayMs;
+        }
+
+        void runNext() {
+            tasks.removeFirst().command.run();
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            ManualFuture future = new ManualFuture(command, unit.toMillis(delay));
+            tasks.addLast(future);
+            return future;
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+
+        class ManualFuture implements ScheduledFuture<Object> {
+
+            final Runnable command;
+            final long delayMs;
+
+            ManualFuture(Runnable command, long delayMs) {
+                this.command = command;
+                this.delayMs = delayMs;
+            }
+
+            @Override
+            public long getDelay(TimeUnit unit) {
+                return unit.convert(delayMs, TimeUnit.MILLISECONDS);
+            }
+
+            @Override
+            public int compareTo(Delayed o) {
+                return Long.compare(getDelay(TimeUnit.MILLISECONDS), o.getDelay(TimeUnit.MILLISECONDS));
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return tasks.remove(this);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public boolean isDone() {
+                return !tasks.contains(this);
+            }
+
+            @Override
+            public Object get() {
+                return null;
+            }
+
+            @Override
+            public Object get(long timeout, TimeUnit unit) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OAuth2TokenCacheTest {
+
+    @Test
+    public void getToken_SharedByKey() {
+
+        OAuth2TokenCache cache = new OAuth2TokenCache();
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<OAuth2Token> fetcher = () -> OAuth2Token.token("t:" + calls.getAndIncrement(), LocalDateTime.now().plusHours(1));
+
+        OAuth2Token t1 = cache.getToken("http://example.org/token", "u", null, null, fetcher);
+        assertSame(t1, cache.getToken("http://example.org/token", "u", null, null, fetcher));
+        assertEquals(1, calls.get());
+
+        OAuth2Token t2 = cache.getToken("http://example.org/token", "u", "s1", null, fetcher);
+        assertNotSame(t1, t2);
+        assertEquals(2, calls.get());
+
+        // asking to replace the current token forces a new fetch
+        OAuth2Token t3 = cache.getToken("http://example.org/token", "u", null, t1, fetcher);
+        assertNotSame(t1, t3);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void getToken_SingleFlight() throws Exception {
+
+        OAuth2TokenCache cache = new OAuth2TokenCache();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Supplier<OAuth2Token> fetcher = () -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return OAuth2Token.token("t", LocalDateTime.now().plusHours(1));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OAuth2Token>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.getToken("http://example.org/token", "u", null, null, fetcher);
+                }));
+            }
+
+            start.countDown();
+
+            OAuth2Token first = results.get(0).get();
+            for (Future<OAuth2Token> f : results) {
+                assertSame(first, f.get());
+            }
+
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OAuth2TokenDAOTest {
+
+    @Test
+    public void parseToken() {
+        OAuth2TokenDAO.TokenDTO token = parse("{\"token_type\":\"example\",\"x\":{\"y\":[1,2]},\"access_token\":\"abc\",\"expires_in\":3600}");
+        assertEquals("abc", token.accessToken);
+        assertEquals(Duration.ofHours(1), token.getDuration(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void parseToken_StringExpiresIn() {
+        OAuth2TokenDAO.TokenDTO token = parse("{\"access_token\":\"abc\",\"expires_in\":\"60\"}");
+        assertEquals(Duration.ofSeconds(60), token.getDuration(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void parseToken_NoExpiresIn() {
+        OAuth2TokenDAO.TokenDTO token = parse("{\"access_token\":\"abc\"}");
+        assertEquals("abc", token.accessToken);
+        assertEquals(Duration.ofSeconds(1), token.getDuration(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void parseToken_NotAnObject() {
+        assertThrows(RuntimeException.class, () -> parse("[\"abc\"]"));
+    }
+
+    private static OAuth2TokenDAO.TokenDTO parse(String json) {
+        return OAuth2TokenDAO.parseToken(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.auth;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OAuth2TokenFileStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void saveLoad() {
+
+        Path file = tempDir.resolve("token.properties");
+        OAuth2Token token = OAuth2Token.token("abc", LocalDateTime.now().plusHours(1));
+
+        new OAuth2TokenFileStore(file, "http://example.org/token", "u", "s").save(token);
+
+        OAuth2Token loaded = new OAuth2TokenFileStore(file, "http://example.org/token", "u", "s").load();
+        assertNotNull(loaded);
+        assertEquals("abc", loaded.getAccessToken());
+        assertEquals(token.getRefreshAfter(), loaded.getRefreshAfter());
+        assertEquals(token.getExpiresOn(), loaded.getExpiresOn());
+    }
+
+    @Test
+    public void load_DifferentCredentials() {
+
+        Path file = tempDir.resolve("token.properties");
+        new OAuth2TokenFileStore(file, "http://example.org/token", "u", null)
+                .save(OAuth2Token.token("abc", LocalDateTime.now().plusHours(1)));
+
+        assertNull(new OAuth2TokenFileStore(file, "http://example.org/token", "u2", null).load());
+        assertNull(new OAuth2TokenFileStore(file, "http://example.org/token", "u", "s").load());
+    }
+
+    @Test
+    public void load_NoFile() {
+        assertNull(new OAuth2TokenFileStore(tempDir.resolve("none"), "http://example.org/token", "u", null).load());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.auth;
+
+import io.bootique.jersey.client.auth.ApiKeyParameterAuthenticatorFactory.ParamAuthenticator;
+import jakarta.ws.rs.core.UriBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParamAuthenticatorTest {
+
+    private final ParamAuthenticator authenticator = new ParamAuthenticator("api_key", "k 1&2");
+
+    @Test
+    public void rewrite_NoQuery() {
+        assertEquals(URI.create("http://example.org/a?api_key=k%201%262"), authenticator.rewrite(URI.create("http://example.org/a")));
+    }
+
+    @Test
+    public void rewrite_Query() {
+        assertEquals(
+                URI.create("http://example.org/a?x=1&api_key=k%201%262"),
+                authenticator.rewrite(URI.create("http://example.org/a?x=1")));
+    }
+
+    @Test
+    public void rewrite_Fragment() {
+        assertEquals(
+                URI.create("http://example.org/a?x=1&api_key=k%201%262#f"),
+                authenticator.rewrite(URI.create("http://example.org/a?x=1#f")));
+    }
+
+    @Test
+    public void rewrite_ParamPresent() {
+        assertEquals(
+                URI.create("http://example.org/a?x=1&api_key=k%201%262"),
+                authenticator.rewrite(URI.create("http://example.org/a?x=1&api_key=old")));
+    }
+
+    @Test
+    public void rewrite_SimilarParamPresent() {
+        assertEquals(
+                URI.create("http://example.org/a?api_key_2=x&api_key=k%201%262"),
+                authenticator.rewrite(URI.create("http://example.org/a?api_key_2=x")));
+    }
+
+    @Test
+    public void rewrite_SpecialCharsInKey() {
+        String key = "a%2Fb+c d";
+        ParamAuthenticator authenticator = new ParamAuthenticator("api_key", key);
+
+        URI uri = URI.create("http://example.org/a?x=1");
+        URI rewritten = authenticator.rewrite(uri);
+
+        // must be sent the same way as with UriBuilder, without double-encoding of the already encoded chars
+        assertEquals(UriBuilder.fromUri(uri).replaceQueryParam("api_key", key).build(), rewritten);
+        assertTrue(rewritten.getRawQuery().contains("a%2Fb"), rewritten::toString);
+
+        // the slow path must produce the same result
+        assertEquals(rewritten, authenticator.rewrite(URI.create("http://example.org/a?x=1&api_key=old")));
+    }
+}
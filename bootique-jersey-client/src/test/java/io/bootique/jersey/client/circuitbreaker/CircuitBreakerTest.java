@@ -0,0 +1,192 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.circuitbreaker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CircuitBreaker breaker(long slowCallThresholdMs) {
+        // opens at 50% failures over the last 4 calls, stays open for 1 s, closes after 2 successful trials
+        return new CircuitBreaker(0.5, slowCallThresholdMs, 4, 4, 1000, 2, clock::get);
+    }
+
+    private void call(CircuitBreaker breaker, long latencyNanos, boolean failed) {
+        long permit = breaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, permit);
+        breaker.onResult(permit, latencyNanos, failed);
+    }
+
+    private void advanceMs(long ms) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    @Test
+    public void opensOnFailureRate() {
+        CircuitBreaker breaker = breaker(0);
+
+        call(breaker, FAST, true);
+        call(breaker, FAST, true);
+        call(breaker, FAST, false);
+
+        // not enough calls yet
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+
+        call(breaker, FAST, false);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    public void slidingWindow() {
+        CircuitBreaker breaker = breaker(0);
+
+        call(breaker, FAST, true);
+        call(breaker, FAST, false);
+        call(breaker, FAST, false);
+        call(breaker, FAST, false);
+
+        // the first failure is pushed out of the window
+        call(breaker, FAST, true);
+        call(breaker, FAST, false);
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void slowCallsAreFailures() {
+        CircuitBreaker breaker = breaker(100);
+
+        call(breaker, SLOW, false);
+        call(breaker, SLOW, false);
+        call(breaker, FAST, false);
+        call(breaker, FAST, false);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void halfOpen_Close() {
+        CircuitBreaker breaker = breaker(0);
+        for (int i = 0; i < 4; i++) {
+            call(breaker, FAST, true);
+        }
+
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        advanceMs(1001);
+        long p1 = breaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, p1);
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        long p2 = breaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, p2);
+
+        // trials are exhausted
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+        breaker.onResult(p1, FAST, false);
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+        breaker.onResult(p2, FAST, false);
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        assertNotEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    public void halfOpen_Reopen() {
+        CircuitBreaker breaker = breaker(0);
+        for (int i = 0; i < 4; i++) {
+            call(breaker, FAST, true);
+        }
+
+        advanceMs(1001);
+        call(breaker, FAST, true);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    public void halfOpen_Cancel() {
+        CircuitBreaker breaker = breaker(0);
+        for (int i = 0; i < 4; i++) {
+            call(breaker, FAST, true);
+        }
+
+        advanceMs(1001);
+        long p1 = breaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, p1);
+        assertNotEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+        breaker.onCancel(p1);
+        assertNotEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    public void halfOpen_IgnoreOutcomesOfClosedState() {
+        CircuitBreaker breaker = breaker(0);
+
+        // requests let through while closed, still in flight when the breaker opens
+        long late1 = breaker.tryAcquire();
+        long late2 = breaker.tryAcquire();
+
+        for (int i = 0; i < 4; i++) {
+            call(breaker, FAST, true);
+        }
+
+        advanceMs(1001);
+        long trial = breaker.tryAcquire();
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+
+        // late successes must not be counted as trials, and late cancellations must not free trial slots
+        breaker.onResult(late1, FAST, false);
+        breaker.onResult(late2, FAST, false);
+        breaker.onCancel(late1);
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+
+        // late failures must not reopen the breaker
+        breaker.onResult(late2, FAST, true);
+        assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+
+        long trial2 = breaker.tryAcquire();
+        assertNotEquals(CircuitBreaker.REJECTED, trial2);
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+        breaker.onResult(trial, FAST, false);
+        breaker.onResult(trial2, FAST, false);
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void invalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0., 0, 10, 5, 1000, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0.5, 0, 0, 5, 1000, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0.5, 0, 10, 5, 1000, 0));
+    }
+}
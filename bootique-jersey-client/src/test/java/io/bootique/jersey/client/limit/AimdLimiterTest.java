@@ -0,0 +1,137 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    public void acquire_Reject() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 100, 0.5, 0);
+
+        assertTrue(limiter.acquire());
+        assertTrue(limiter.acquire());
+        assertFalse(limiter.acquire());
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.release(FAST, false);
+        assertTrue(limiter.acquire());
+    }
+
+    @Test
+    public void acquire_Wait() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 1, 100, 0.5, 5000);
+        assertTrue(limiter.acquire());
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                return;
+            }
+            limiter.release(FAST, false);
+        });
+        releaser.start();
+
+        assertTrue(limiter.acquire());
+        releaser.join();
+    }
+
+    @Test
+    public void acquire_WaitTimeout() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 1, 100, 0.5, 50);
+        assertTrue(limiter.acquire());
+        assertFalse(limiter.acquire());
+    }
+
+    @Test
+    public void release_AdditiveIncrease() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 3, 100, 0.5, 0);
+
+        limiter.acquire();
+        limiter.release(FAST, false);
+        assertEquals(3, limiter.getLimit());
+
+        // capped by max
+        limiter.acquire();
+        limiter.acquire();
+        limiter.release(FAST, false);
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    public void release_NoIncreaseWhenUnderutilized() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, 100, 0.5, 0);
+
+        limiter.acquire();
+        limiter.release(FAST, false);
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    public void release_MultiplicativeDecrease() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, 100, 0.5, 0);
+
+        limiter.acquire();
+        limiter.release(SLOW, false);
+        assertEquals(5, limiter.getLimit());
+
+        limiter.acquire();
+        limiter.release(FAST, true);
+        assertEquals(2, limiter.getLimit());
+
+        // capped by min
+        limiter.acquire();
+        limiter.release(FAST, true);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 4, 100, 0.5, 0);
+
+        assertTrue(limiter.acquire());
+        assertTrue(limiter.acquire());
+        assertFalse(limiter.acquire());
+
+        limiter.cancel();
+        assertEquals(2, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+        assertTrue(limiter.acquire());
+    }
+
+    @Test
+    public void invalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(1, 0, 1, 100, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(1, 2, 1, 100, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(1, 1, 1, 100, 1., 0));
+    }
+}
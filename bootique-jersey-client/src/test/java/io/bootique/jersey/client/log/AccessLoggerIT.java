@@ -0,0 +1,135 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.log;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.bootique.jersey.client.HttpClientFactory;
+import io.bootique.jersey.client.JerseyClientModule;
+import io.bootique.jetty.connector.PortFinder;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class AccessLoggerIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory();
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    public void before() {
+        this.appender = new ListAppender<>() {
+            @Override
+            protected void append(ILoggingEvent e) {
+                // MDC is read by the event lazily, so capturing it on the writing thread
+                e.prepareForDeferredProcessing();
+                super.append(e);
+            }
+        };
+        this.appender.start();
+
+        this.logger = (Logger) LoggerFactory.getLogger(AccessLogger.class);
+        this.logger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void after() {
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    public void connectionRefused() throws InterruptedException {
+        Client client = testFactory.app()
+                .modules(JerseyClientModule.class)
+                // only the failed requests are logged
+                .property("bq.jerseyclient.accessLog.sampleEvery", "0")
+                .createRuntime()
+                .getInstance(HttpClientFactory.class)
+                .newClient();
+
+        String url = "http://127.0.0.1:" + PortFinder.findAvailablePort("127.0.0.1") + "/refused";
+        assertThrows(ProcessingException.class, () -> client.target(url).request().get());
+
+        List<ILoggingEvent> events = waitForEvents();
+        assertEquals(1, events.size());
+        String line = events.get(0).getFormattedMessage();
+        assertTrue(line.startsWith("method=GET url=" + url + " error=ConnectException ms="), line);
+    }
+
+    @Test
+    public void requestThreadMDC() throws InterruptedException {
+        Client client = testFactory.app()
+                .modules(JerseyClientModule.class)
+                .property("bq.jerseyclient.accessLog.sampleEvery", "0")
+                .createRuntime()
+                .getInstance(HttpClientFactory.class)
+                .newClient();
+
+        String url = "http://127.0.0.1:" + PortFinder.findAvailablePort("127.0.0.1") + "/refused";
+
+        MDC.put("txid", "tx1");
+        try {
+            assertThrows(ProcessingException.class, () -> client.target(url).request().get());
+        } finally {
+            MDC.remove("txid");
+        }
+
+        List<ILoggingEvent> events = waitForEvents();
+        assertEquals(1, events.size());
+        assertEquals("tx1", events.get(0).getMDCPropertyMap().get("txid"));
+    }
+
+    // the lines are written by a background thread
+    private List<ILoggingEvent> waitForEvents() throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+
+            // appending is synchronized on the appender
+            synchronized (appender) {
+                if (!appender.list.isEmpty()) {
+                    return new ArrayList<>(appender.list);
+                }
+            }
+
+            Thread.sleep(100);
+        }
+
+        return List.of();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey.client.log;
+
+import jakarta.ws.rs.ProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AccessLoggerTest {
+
+    @Test
+    public void format() {
+        assertEquals(
+                "method=GET url=http://example.org:8080/a/b status=200 ms=12",
+                AccessLogger.format("GET", URI.create("http://example.org:8080/a/b?k=secret"), 200, TimeUnit.MILLISECONDS.toNanos(12)));
+    }
+
+    @Test
+    public void format_Error() {
+        assertEquals(
+                "method=POST url=http://example.org/a error=ConnectException ms=3",
+                AccessLogger.format("POST", URI.create("http://example.org/a"), "ConnectException", TimeUnit.MILLISECONDS.toNanos(3)));
+    }
+
+    @Test
+    public void errorName() {
+        assertEquals("ConnectException", AccessLogger.errorName(
+                new ProcessingException(new ConnectException("Connection refused"))));
+        assertEquals("IllegalStateException", AccessLogger.errorName(new IllegalStateException()));
+        assertEquals("unknown", AccessLogger.errorName(null));
+    }
+
+    @Test
+    public void shouldLog_Sampling() {
+        AccessLogger logger = new AccessLogger(3, 0, false, 10);
+        try {
+            assertTrue(logger.shouldLog(200, 0));
+            assertFalse(logger.shouldLog(200, 0));
+            assertFalse(logger.shouldLog(500, 0));
+            assertTrue(logger.shouldLog(200, 0));
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldLog_OnlySlowOrFailed() {
+        AccessLogger logger = new AccessLogger(0, 100, true, 10);
+        try {
+            assertFalse(logger.shouldLog(200, TimeUnit.MILLISECONDS.toNanos(99)));
+            assertTrue(logger.shouldLog(200, TimeUnit.MILLISECONDS.toNanos(100)));
+            assertTrue(logger.shouldLog(404, 0));
+            assertTrue(logger.shouldLog(503, 0));
+        } finally {
+            logger.shutdown();
+        }
+    }
+}
@@ -11,6 +11,8 @@ import jakarta.inject.Provider;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Base utilities for bridge between Bootique DI and HK2 container
@@ -69,4 +71,44 @@ abstract class BaseBqHk2Bridge {
 
         return null;
     }
+
+    /**
+     * A cache key of an injection point that includes all the properties of the {@link Injectee} that affect
+     * its resolution to a Bootique provider.
+     */
+    static final class InjecteeKey {
+
+        private final Type requiredType;
+        private final Set<Annotation> qualifiers;
+        private final boolean parameterOrField;
+        private final int hashCode;
+
+        InjecteeKey(Injectee injectee) {
+            this.requiredType = injectee.getRequiredType();
+            this.qualifiers = injectee.getRequiredQualifiers();
+            this.parameterOrField = injectee.getParent() != null;
+            this.hashCode = Objects.hash(requiredType, qualifiers, parameterOrField);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof InjecteeKey)) {
+                return false;
+            }
+
+            InjecteeKey that = (InjecteeKey) o;
+            return parameterOrField == that.parameterOrField
+                    && requiredType.equals(that.requiredType)
+                    && qualifiers.equals(that.qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
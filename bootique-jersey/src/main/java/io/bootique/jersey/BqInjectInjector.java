@@ -28,15 +28,22 @@ import org.glassfish.hk2.api.InjectionResolver;
 import org.glassfish.hk2.api.ServiceHandle;
 
 import jakarta.inject.Provider;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This resolver provides support for the {@link BQInject} annotation inside Jersey runtime
  */
 public class BqInjectInjector extends BaseBqHk2Bridge implements InjectionResolver<BQInject> {
 
+    // injection point resolution results. Each value is a provider of the object to inject, so repeated injections
+    // into the same type (e.g. per-request resources) are reduced to a map lookup and a "get" call
+    private final ConcurrentMap<InjecteeKey, Provider<?>> resolved;
+
     @Inject
     public BqInjectInjector(Injector injector) {
         super(injector);
+        this.resolved = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -51,9 +58,22 @@ public class BqInjectInjector extends BaseBqHk2Bridge implements InjectionResolv
 
     @Override
     public Object resolve(Injectee injectee, ServiceHandle<?> serviceHandle) {
+        InjecteeKey key = new InjecteeKey(injectee);
+
+        Provider<?> valueProvider = resolved.get(key);
+        if (valueProvider == null) {
+            valueProvider = resolved.computeIfAbsent(key, k -> resolveValueProvider(injectee));
+        }
+
+        return valueProvider.get();
+    }
+
+    private Provider<?> resolveValueProvider(Injectee injectee) {
         TypeLiteral<?> typeLiteral = TypeLiteral.of(injectee.getRequiredType());
         Provider<?> provider = resolveBqProvider(injectee);
-        return Provider.class.equals(typeLiteral.getRawType()) ? provider : provider.get();
+
+        // when injecting a Provider, the Provider itself is the value
+        return Provider.class.equals(typeLiteral.getRawType()) ? () -> provider : provider;
     }
 
 }
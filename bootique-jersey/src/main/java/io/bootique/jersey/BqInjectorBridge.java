@@ -37,6 +37,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Allows HK2 to do a lookup and grab services from Bootique DI Injector.
@@ -53,13 +56,21 @@ public class BqInjectorBridge extends BaseBqHk2Bridge implements JustInTimeInjec
 
     private final ServiceLocator locator;
 
+    // HK2 keeps calling the resolver for the same missing services, so remembering both found and not found results.
+    // The found services need no further lookups, as their descriptors are registered in the ServiceLocator
+    private final ConcurrentMap<InjecteeKey, Boolean> resolved;
+    private final LongAdder cacheHits;
+    private final LongAdder cacheMisses;
+
     @Inject
     public BqInjectorBridge(Injector injector, ServiceLocator locator) {
         super(injector);
         this.locator = locator;
+        this.resolved = new ConcurrentHashMap<>();
+        this.cacheHits = new LongAdder();
+        this.cacheMisses = new LongAdder();
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public boolean justInTimeResolution(Injectee failedInjectionPoint) {
         // HK2 injection point can have multiple qualifiers, Bq DI doesn't support that
@@ -67,6 +78,23 @@ public class BqInjectorBridge extends BaseBqHk2Bridge implements JustInTimeInjec
             return false;
         }
 
+        InjecteeKey key = new InjecteeKey(failedInjectionPoint);
+
+        Boolean cached = resolved.get(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        // "computeIfAbsent" ensures that the descriptor is registered once, and that the concurrent callers do not
+        // see the cached result until the descriptor registration is finished
+        return resolved.computeIfAbsent(key, k -> resolveAndRegister(failedInjectionPoint));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean resolveAndRegister(Injectee failedInjectionPoint) {
+        cacheMisses.increment();
+
         Provider<?> provider = resolveBqProvider(failedInjectionPoint);
         if (provider == null) {
             return false;
@@ -79,10 +107,29 @@ public class BqInjectorBridge extends BaseBqHk2Bridge implements JustInTimeInjec
                 failedInjectionPoint.getRequiredQualifiers(),
                 TypeLiteral.of(failedInjectionPoint.getRequiredType()).getRawType()
         ));
+
         // notify that we have added a new descriptor
         return true;
     }
 
+    /**
+     * Returns the number of just-in-time resolution requests answered from the resolution cache.
+     *
+     * @since 4.0
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns the number of just-in-time resolution requests that required a lookup in Bootique DI.
+     *
+     * @since 4.0
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
     @Override
     protected boolean allowDynamicInjectionForKey(Injectee injectionPoint, Key<?> key) {
         return injectionPoint.getParent() != null // parent's presence means that we are injecting value to parameter or field
@@ -29,6 +29,11 @@ class InstanceResourceRegistrar<T> implements ResourceRegistrar<T> {
         this.resource = resource;
     }
 
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+
     @Override
     public void registerResource(FeatureContext context) {
         context.register(resource);
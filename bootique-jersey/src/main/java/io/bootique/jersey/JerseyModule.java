@@ -110,6 +110,7 @@ public class JerseyModule implements BQModule {
             Set<MappedResource<?>> mappedResources,
             Map<Class<?>, ParamConverter<?>> paramConverters,
             @Named(PROPERTIES_BINDING) Map<String, Object> properties,
+            JerseyServletFactory servletFactory,
 
             // these two are deprecated
             @Named(LEGACY_RESOURCES_BINDING) Set<Object> legacyResources,
@@ -178,6 +179,7 @@ public class JerseyModule implements BQModule {
         }
 
         config.register(ResourceModelDebugger.class);
+        servletFactory.configExecutors(config);
 
         return config;
     }
@@ -205,7 +207,13 @@ public class JerseyModule implements BQModule {
 
     @Provides
     @Singleton
-    private MappedServlet<ServletContainer> provideJerseyServlet(ConfigurationFactory configFactory) {
-        return configFactory.config(JerseyServletFactory.class, CONFIG_PREFIX).createJerseyServlet();
+    JerseyServletFactory provideJerseyServletFactory(ConfigurationFactory configFactory) {
+        return configFactory.config(JerseyServletFactory.class, CONFIG_PREFIX);
+    }
+
+    @Provides
+    @Singleton
+    private MappedServlet<ServletContainer> provideJerseyServlet(JerseyServletFactory factory, ResourceConfig config) {
+        return factory.createJerseyServlet(config);
     }
 }
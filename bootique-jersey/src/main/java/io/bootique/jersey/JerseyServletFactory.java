@@ -27,7 +27,6 @@ import jakarta.ws.rs.core.Application;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
 
-import jakarta.inject.Inject;
 import java.util.Collections;
 import java.util.Set;
 
@@ -39,11 +38,23 @@ public class JerseyServletFactory {
 
     private static final String DEFAULT_URL_PATTERN = "/*";
 
-    private final ResourceConfig application;
+    // only set by the deprecated constructor
+    private ResourceConfig application;
 
     protected String urlPattern;
+    protected ExecutionMode executionMode;
 
-    @Inject
+    /**
+     * @since 4.0
+     */
+    public JerseyServletFactory() {
+    }
+
+    /**
+     * @deprecated in favor of the no-argument constructor and {@link #createJerseyServlet(ResourceConfig)}, as this
+     * factory no longer depends on the app ResourceConfig.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public JerseyServletFactory(ResourceConfig application) {
         this.application = application;
     }
@@ -59,12 +70,53 @@ public class JerseyServletFactory {
         this.urlPattern = urlPattern;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Defines the threads used by Jersey for the async processing of requests. 'platform' (default) " +
+            "uses Jersey thread pools. 'virtual' runs @ManagedAsync resource methods (and hence the completion of " +
+            "their @Suspended AsyncResponse) and async timeout handlers on virtual threads. 'virtual' requires " +
+            "Java 21 or newer.")
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * @deprecated in favor of {@link #createJerseyServlet(ResourceConfig)}. Only works if this factory was created with
+     * the deprecated {@link #JerseyServletFactory(ResourceConfig)} constructor.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public MappedServlet<ServletContainer> createJerseyServlet() {
+        if (application == null) {
+            throw new IllegalStateException("No ResourceConfig was passed to the factory constructor. " +
+                    "Use 'createJerseyServlet(ResourceConfig)' instead");
+        }
+
+        return createJerseyServlet(application);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public MappedServlet<ServletContainer> createJerseyServlet(ResourceConfig application) {
         ServletContainer servlet = new ServletContainer(application);
         Set<String> urlPatterns = Collections.singleton(getUrlPattern(application));
         return new MappedServlet<>(servlet, urlPatterns, "jersey");
     }
 
+    /**
+     * Registers Jersey executor providers matching the configured execution mode. Called once by {@link JerseyModule}
+     * when the app ResourceConfig is assembled.
+     *
+     * @since 4.0
+     */
+    public void configExecutors(ResourceConfig resourceConfig) {
+        if (executionMode == ExecutionMode.virtual) {
+            resourceConfig.register(new VirtualThreadExecutorServiceProvider());
+            resourceConfig.register(new VirtualThreadScheduledExecutorServiceProvider());
+        }
+    }
+
     protected String getUrlPattern(ResourceConfig resourceConfig) {
 
         // explicit definition overrides annotation-defined path
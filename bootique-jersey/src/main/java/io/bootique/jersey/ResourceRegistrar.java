@@ -26,6 +26,12 @@ import org.glassfish.jersey.inject.hk2.AbstractBinder;
  */
 interface ResourceRegistrar<T> {
 
+    /**
+     * Returns whether the resource is a singleton or is created per request. Implementations must determine the scope
+     * without instantiating the resource.
+     */
+    boolean isSingleton();
+
     void registerResource(FeatureContext context);
 
     void registerResourceSupplier(AbstractBinder binder);
@@ -25,6 +25,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.ws.rs.core.FeatureContext;
 import org.glassfish.jersey.inject.hk2.AbstractBinder;
+import org.glassfish.jersey.internal.inject.InjectionManager;
 import org.glassfish.jersey.servlet.ServletContainer;
 
 import java.util.Objects;
@@ -46,6 +47,12 @@ class TypeResourceRegistrar<T> implements ResourceRegistrar<T> {
     @Inject
     private Provider<MappedServlet<ServletContainer>> jerseyServlet;
 
+    private Boolean singleton;
+
+    // per-request resource creation path, resolved once and reused across requests
+    private Provider<T> perRequestProvider;
+    private volatile InjectionManager injectionManager;
+
     public TypeResourceRegistrar(Class<T> resourceType) {
         this.resourceType = resourceType;
         this.resourceKey = Key.get(resourceType);
@@ -63,25 +70,49 @@ class TypeResourceRegistrar<T> implements ResourceRegistrar<T> {
     @Override
     public void registerResourceSupplier(AbstractBinder binder) {
         if (!isSingleton()) {
+            this.perRequestProvider = injector.getProvider(resourceKey);
             binder.bindFactory(this::getPerRequest).to(resourceType);
         }
     }
 
     private T getPerRequest() {
-        Objects.requireNonNull(jerseyServlet, "'jerseyServlet' was not injected");
+        T t = perRequestProvider.get();
 
-        T t = injector.getInstance(resourceKey);
-        jerseyServlet.get().getServlet().getApplicationHandler().getInjectionManager().inject(t);
+        // HK2 caches the injection points of each class internally, so the only per-request work here is
+        // the actual injection of the "@Context" and similar fields
+        getInjectionManager().inject(t);
         return t;
     }
 
-    private boolean isSingleton() {
-        // a hack: triggering instance creation for implicit registrations to avoid an exception in "isSingleton"
-        // side effect is that for non-singleton endpoints we'll create a throwaway instance
-        if (!injector.hasProvider(resourceKey)) {
-            injector.getInstance(resourceKey);
+    private InjectionManager getInjectionManager() {
+
+        // Jersey InjectionManager only becomes available after the servlet is initialized, so resolving it lazily
+        // on the first request. Concurrent first requests may resolve it more than once, but will get the same object
+        InjectionManager im = this.injectionManager;
+        if (im == null) {
+            Objects.requireNonNull(jerseyServlet, "'jerseyServlet' was not injected");
+            im = jerseyServlet.get().getServlet().getApplicationHandler().getInjectionManager();
+            this.injectionManager = im;
+        }
+
+        return im;
+    }
+
+    @Override
+    public boolean isSingleton() {
+
+        // memoizing the scope, as it is checked from both "registerResource" and "registerResourceSupplier"
+        if (singleton == null) {
+
+            // for implicitly registered resources, "getProvider" creates a DI binding without instantiating the
+            // resource. This is needed to avoid an exception in "isSingleton"
+            if (!injector.hasProvider(resourceKey)) {
+                injector.getProvider(resourceKey);
+            }
+
+            singleton = injector.isSingleton(resourceKey);
         }
 
-        return injector.isSingleton(resourceKey);
+        return singleton;
     }
 }
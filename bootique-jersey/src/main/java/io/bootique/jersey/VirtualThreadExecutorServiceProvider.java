@@ -0,0 +1,52 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey;
+
+import io.bootique.jersey.common.VirtualThreads;
+import org.glassfish.jersey.server.ManagedAsyncExecutor;
+import org.glassfish.jersey.spi.ExecutorServiceProvider;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs Jersey managed async processing (e.g. resource methods annotated with
+ * {@link org.glassfish.jersey.server.ManagedAsync}) on virtual threads, a new thread per task.
+ *
+ * @since 4.0
+ */
+@ManagedAsyncExecutor
+public class VirtualThreadExecutorServiceProvider implements ExecutorServiceProvider {
+
+    private final ExecutorService executor;
+
+    public VirtualThreadExecutorServiceProvider() {
+        this.executor = VirtualThreads.newThreadPerTaskExecutor("bootique-jersey-async-");
+    }
+
+    @Override
+    public ExecutorService getExecutorService() {
+        return executor;
+    }
+
+    @Override
+    public void dispose(ExecutorService executorService) {
+        executorService.shutdown();
+    }
+}
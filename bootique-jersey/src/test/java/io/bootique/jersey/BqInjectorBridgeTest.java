@@ -0,0 +1,137 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey;
+
+import io.bootique.di.DIBootstrap;
+import io.bootique.di.Injector;
+import jakarta.inject.Named;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.utilities.InjecteeImpl;
+import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BqInjectorBridgeTest {
+
+    private ServiceLocator locator;
+    private S1 s1;
+    private BqInjectorBridge bridge;
+
+    @BeforeEach
+    public void before() {
+        this.locator = ServiceLocatorUtilities.createAndPopulateServiceLocator();
+        this.s1 = new S1();
+
+        Injector injector = DIBootstrap.createInjector(b -> b.bind(S1.class).toInstance(s1));
+        this.bridge = new BqInjectorBridge(injector, locator);
+    }
+
+    @AfterEach
+    public void after() {
+        locator.shutdown();
+    }
+
+    @Test
+    public void justInTimeResolution_Cached() throws NoSuchFieldException {
+
+        InjecteeImpl injectee = injectee(S1.class, Set.of());
+
+        assertTrue(bridge.justInTimeResolution(injectee));
+        assertEquals(0, bridge.getCacheHits());
+        assertEquals(1, bridge.getCacheMisses());
+        assertSame(s1, locator.getService(S1.class));
+
+        assertTrue(bridge.justInTimeResolution(injectee));
+        assertTrue(bridge.justInTimeResolution(injectee(S1.class, Set.of())));
+        assertEquals(2, bridge.getCacheHits());
+        assertEquals(1, bridge.getCacheMisses());
+
+        // the descriptor must have been registered only once
+        assertEquals(1, locator.getAllServiceHandles(S1.class).size());
+    }
+
+    @Test
+    public void justInTimeResolution_NegativeCached() {
+
+        // no parent means the injection point is not a field or parameter, so unbound services are not resolved
+        InjecteeImpl injectee = new InjecteeImpl(S2.class);
+        injectee.setRequiredQualifiers(Set.of());
+
+        assertFalse(bridge.justInTimeResolution(injectee));
+        assertFalse(bridge.justInTimeResolution(injectee));
+        assertEquals(1, bridge.getCacheHits());
+        assertEquals(1, bridge.getCacheMisses());
+        assertNull(locator.getService(S2.class));
+    }
+
+    @Test
+    public void justInTimeResolution_KeyIncludesQualifiers() throws NoSuchFieldException {
+
+        Annotation named = Holder.class.getDeclaredField("named").getAnnotation(Named.class);
+
+        bridge.justInTimeResolution(injectee(S1.class, Set.of()));
+        bridge.justInTimeResolution(injectee(S1.class, Set.of(named)));
+        assertEquals(0, bridge.getCacheHits());
+        assertEquals(2, bridge.getCacheMisses());
+    }
+
+    @Test
+    public void justInTimeResolution_MultipleQualifiers() throws NoSuchFieldException {
+
+        Annotation named = Holder.class.getDeclaredField("named").getAnnotation(Named.class);
+        Annotation otherNamed = Holder.class.getDeclaredField("otherNamed").getAnnotation(Named.class);
+
+        assertFalse(bridge.justInTimeResolution(injectee(S1.class, Set.of(named, otherNamed))));
+
+        // not supported by Bootique DI, so rejected without a lookup
+        assertEquals(0, bridge.getCacheHits());
+        assertEquals(0, bridge.getCacheMisses());
+    }
+
+    private static InjecteeImpl injectee(Class<?> type, Set<Annotation> qualifiers) throws NoSuchFieldException {
+        InjecteeImpl injectee = new InjecteeImpl(type);
+        injectee.setRequiredQualifiers(qualifiers);
+        injectee.setParent(Holder.class.getDeclaredField("s1"));
+        return injectee;
+    }
+
+    public static class S1 {
+    }
+
+    public static class S2 {
+    }
+
+    static class Holder {
+
+        S1 s1;
+
+        @Named("a")
+        S1 named;
+
+        @Named("b")
+        S1 otherNamed;
+    }
+}
@@ -34,6 +34,10 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 @BQTest
 public class EndpointScopeIT {
 
@@ -56,6 +60,17 @@ public class EndpointScopeIT {
         JettyTester.assertOk(r2).assertContent("0");
     }
 
+    @Test
+    public void implicitApi_NoThrowawayInstances() {
+        assertEquals(0, ImplicitCountingApi.instances.get());
+
+        Response r1 = tester.getTarget().path("implicit-counting").request().get();
+        JettyTester.assertOk(r1).assertContent("1");
+
+        Response r2 = tester.getTarget().path("implicit-counting").request().get();
+        JettyTester.assertOk(r2).assertContent("2");
+    }
+
     @Test
     public void implicitApiSingleton() {
         Response r1 = tester.getTarget().path("implicit-singleton").request().get();
@@ -136,6 +151,7 @@ public class EndpointScopeIT {
 
                     .addApiResource(ImplicitApi.class)
                     .addApiResource(ImplicitApiSingleton.class)
+                    .addApiResource(ImplicitCountingApi.class)
 
                     .addApiResource(ImplicitPathOverrideApi.class, "implicit-path-override-X")
                     .addApiResource(ImplicitPathOverrideApiSingleton.class, "implicit-path-override-singleton-Y")
@@ -176,6 +192,22 @@ public class EndpointScopeIT {
         }
     }
 
+    @Path("implicit-counting")
+    public static class ImplicitCountingApi {
+
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public ImplicitCountingApi() {
+            instances.incrementAndGet();
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String get() {
+            return String.valueOf(instances.get());
+        }
+    }
+
     @Singleton
     @Path("implicit-singleton")
     public static class ImplicitApiSingleton {
@@ -0,0 +1,90 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey;
+
+import io.bootique.jetty.junit.JettyTester;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.jersey.server.ManagedAsync;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@BQTest
+public class ExecutionModeIT {
+
+    @BQTestTool
+    static final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void platform() {
+
+        JettyTester jetty = JettyTester.create();
+        testFactory.app("-s")
+                .module(jetty.moduleReplacingConnectors())
+                .module(b -> JerseyModule.extend(b).addApiResource(Resource.class))
+                .run();
+
+        Response r = jetty.getTarget().path("managed-async").request().get();
+        JettyTester.assertOk(r).assertContent("false");
+    }
+
+    @Test
+    public void virtual() {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21 or newer");
+
+        JettyTester jetty = JettyTester.create();
+        testFactory.app("-s")
+                .property("bq.jersey.executionMode", "virtual")
+                .module(jetty.moduleReplacingConnectors())
+                .module(b -> JerseyModule.extend(b).addApiResource(Resource.class))
+                .run();
+
+        Response r = jetty.getTarget().path("managed-async").request().get();
+        JettyTester.assertOk(r).assertContent("true");
+    }
+
+    static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            // pre-Java 21
+            return false;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Path("managed-async")
+    public static class Resource {
+
+        @GET
+        @ManagedAsync
+        public void get(@Suspended AsyncResponse response) {
+            response.resume(String.valueOf(isVirtual(Thread.currentThread())));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jersey;
+
+import io.bootique.BQRuntime;
+import io.bootique.Bootique;
+import io.bootique.di.BQInject;
+import io.bootique.jetty.junit.JettyTester;
+import io.bootique.junit.BQApp;
+import io.bootique.junit.BQTest;
+import jakarta.inject.Provider;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BQTest
+public class ResourceInjection_BQInjectIT {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    static final JettyTester jetty = JettyTester.create();
+
+    @BQApp
+    static final BQRuntime app = Bootique.app("-s")
+            .autoLoadModules()
+            .module(b -> b.bind(PerLookupService.class)
+                    .toProviderInstance(() -> new PerLookupService(COUNTER.incrementAndGet()))
+                    .withoutScope())
+            .module(b -> JerseyModule.extend(b)
+                    .addApiResource(FieldInjectedApi.class)
+                    .addApiResource(ProviderInjectedApi.class))
+            .module(jetty.moduleReplacingConnectors())
+            .createRuntime();
+
+    @BeforeEach
+    public void before() {
+        COUNTER.set(0);
+    }
+
+    @Test
+    public void fieldInjected() {
+
+        // resolved injection points are cached, but each injection must still do a fresh lookup
+        Response r1 = jetty.getTarget().path("f").request().get();
+        JettyTester.assertOk(r1).assertContent("f_1");
+
+        Response r2 = jetty.getTarget().path("f").request().get();
+        JettyTester.assertOk(r2).assertContent("f_2");
+    }
+
+    @Test
+    public void providerInjected() {
+
+        Response r1 = jetty.getTarget().path("p").request().get();
+        JettyTester.assertOk(r1).assertContent("p_1_2");
+
+        Response r2 = jetty.getTarget().path("p").request().get();
+        JettyTester.assertOk(r2).assertContent("p_3_4");
+    }
+
+    public static class PerLookupService {
+
+        private final int id;
+
+        public PerLookupService(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+
+    @Path("f")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class FieldInjectedApi {
+
+        @BQInject
+        private PerLookupService service;
+
+        @GET
+        public String get() {
+            return "f_" + service.getId();
+        }
+    }
+
+    @Path("p")
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class ProviderInjectedApi {
+
+        @BQInject
+        private Provider<PerLookupService> service;
+
+        @GET
+        public String get() {
+            return "p_" + service.get().getId() + "_" + service.get().getId();
+        }
+    }
+}